@@ -0,0 +1,87 @@
+package benchmark;
+
+import logic.Game;
+import logic.board.GameBoard;
+import logic.math.Vector2;
+import logic.tile.Direction;
+import logic.tile.Tile;
+import logic.tile.area.Area;
+import logic.tile.chunk.ChunkId;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the area queries used by the engine and the AI.
+ * The real merges only happen when a tile is placed, they are measured by {@link GameBoardBenchmark#place()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AreaBenchmark {
+    @Param({"10", "50", "72", "150", "300"})
+    private int numTiles;
+
+    private List<Area> areas;
+    private List<Area> neighborAreas;
+    private List<Area> tileDrawnAreas;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Game game = BoardFixture.create(numTiles, 2);
+        GameBoard board = game.getBoard();
+        Tile tileDrawn = BoardFixture.getTileDrawn(game);
+        Vector2 position = BoardFixture.findPositionForTileDrawn(game);
+
+        areas = board.getAreas();
+        neighborAreas = new ArrayList<>();
+        tileDrawnAreas = new ArrayList<>();
+
+        /* The tile drawn keeps its position, as the AI does while evaluating it. */
+        tileDrawn.setPosition(position);
+
+        for (Direction edge : Direction.values()) {
+            Tile neighbor = board.getTileAt(position.add(edge.value()));
+
+            if (neighbor == null) {
+                continue;
+            }
+
+            ChunkId[] ownChunkIds = edge.getChunkIds();
+            ChunkId[] neighborChunkIds = edge.negate().getChunkIds();
+
+            for (int i = 0; i < ownChunkIds.length; i++) {
+                Area ownArea = tileDrawn.getChunk(ownChunkIds[i]).getArea();
+                Area neighborArea = neighbor.getChunk(neighborChunkIds[i]).getArea();
+
+                if (neighborArea.canBeMerged(ownArea)) {
+                    neighborAreas.add(neighborArea);
+                    tileDrawnAreas.add(ownArea);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void getFreeEdges(Blackhole blackhole) {
+        for (Area area : areas) {
+            blackhole.consume(area.getFreeEdges());
+        }
+    }
+
+    /**
+     * Simulates the merges of the areas of the tile drawn with its neighbors, as the AI does.
+     */
+    @Benchmark
+    public void getFreeEdgesAfterMerge(Blackhole blackhole) {
+        for (int i = 0; i < neighborAreas.size(); i++) {
+            blackhole.consume(neighborAreas.get(i).getFreeEdges(tileDrawnAreas.get(i)));
+        }
+    }
+}
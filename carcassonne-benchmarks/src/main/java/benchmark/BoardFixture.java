@@ -0,0 +1,163 @@
+package benchmark;
+
+import logic.Game;
+import logic.command.MoveDragonCommand;
+import logic.command.PlaceTileDrawnCommand;
+import logic.command.RotateTileDrawnCommand;
+import logic.command.SkipMeeplePlacementCommand;
+import logic.config.GameConfig;
+import logic.config.excel.TileConfig;
+import logic.dragon.Dragon;
+import logic.math.Vector2;
+import logic.player.Player;
+import logic.state.turn.GameTurnPlaceTileState;
+import logic.tile.Direction;
+import logic.tile.Tile;
+import logic.tile.TileRotation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builds the games used by the benchmarks.
+ * A fixture is a master game with a given number of tiles on the board, waiting for the next tile to be placed.
+ * The games up to 72 tiles are real games, the larger ones are synthetic boards played with several sets of tiles.
+ */
+public class BoardFixture {
+    /**
+     * Seed of the tile stack of the fixtures, so every run measures the same boards.
+     */
+    public static final long SEED = 42;
+
+    private static final GameConfig CONFIG = Objects.requireNonNull(GameConfig.loadFromResources());
+
+    private BoardFixture() {
+        // ignored
+    }
+
+    /**
+     * Gets the game configuration shared by the fixtures.
+     *
+     * @return the game configuration
+     */
+    public static GameConfig getConfig() {
+        return CONFIG;
+    }
+
+    /**
+     * Creates a game with the given number of tiles on the board.
+     * Tiles are placed at the first free position found, without meeple.
+     *
+     * @param numTiles   the number of tiles on the board
+     * @param numPlayers the number of players
+     * @return the game, in the tile placement state
+     */
+    public static Game create(int numTiles, int numPlayers) {
+        Game game = new Game(CONFIG);
+
+        for (int i = 0; i < numPlayers; i++) {
+            game.addPlayer(new Player(i + 1));
+        }
+
+        game.getStack().setSeed(SEED);
+        game.start();
+
+        /* One more tile than the board size is needed, so the fixture always has a tile drawn. */
+        while (game.getStack().getNumTiles() <= numTiles) {
+            game.getStack().fill(createTileSet(game));
+        }
+
+        while (game.getBoard().getTiles().size() < numTiles || !(game.getState() instanceof GameTurnPlaceTileState)) {
+            if (game.isOver()) {
+                throw new IllegalStateException("Cannot create a board with %d tiles.".formatted(numTiles));
+            }
+
+            switch (game.getState().getType()) {
+                case TURN_PLACE_TILE -> placeTileDrawn(game);
+                case TURN_PLACE_MEEPLE -> game.executeCommand(new SkipMeeplePlacementCommand());
+                case TURN_MOVE_DRAGON -> moveDragon(game);
+                default -> throw new IllegalStateException("Unexpected state " + game.getState().getType());
+            }
+        }
+
+        return game;
+    }
+
+    /**
+     * Gets the tile drawn of the given game.
+     *
+     * @param game the game in the tile placement state
+     * @return the tile drawn
+     */
+    public static Tile getTileDrawn(Game game) {
+        return ((GameTurnPlaceTileState) game.getState()).getTileDrawn();
+    }
+
+    /**
+     * Gets the first position where the tile drawn can be placed with its current rotation, rotating it if needed.
+     *
+     * @param game the game in the tile placement state
+     * @return the position
+     */
+    public static Vector2 findPositionForTileDrawn(Game game) {
+        Tile tileDrawn = getTileDrawn(game);
+
+        for (int i = 0; i < TileRotation.NUM_ROTATIONS; i++) {
+            List<Vector2> freePlaces = game.getBoard().findFreePlacesForTile(tileDrawn);
+
+            if (!freePlaces.isEmpty()) {
+                return freePlaces.get(0);
+            }
+
+            game.executeCommand(new RotateTileDrawnCommand(tileDrawn.getRotation().next()));
+        }
+
+        throw new IllegalStateException("No free place for the tile drawn.");
+    }
+
+    /**
+     * Places the tile drawn at the first free position.
+     *
+     * @param game the game in the tile placement state
+     */
+    private static void placeTileDrawn(Game game) {
+        game.executeCommand(new PlaceTileDrawnCommand(findPositionForTileDrawn(game)));
+    }
+
+    /**
+     * Moves the dragon in the first possible direction.
+     *
+     * @param game the game in the dragon movement state
+     */
+    private static void moveDragon(Game game) {
+        Dragon dragon = game.getBoard().getDragon();
+
+        for (Direction direction : Direction.values()) {
+            if (dragon.canMoveTo(dragon.getPosition().add(direction.value()))) {
+                game.executeCommand(new MoveDragonCommand(direction));
+                return;
+            }
+        }
+
+        throw new IllegalStateException("The dragon cannot move.");
+    }
+
+    /**
+     * Creates a whole set of tiles of the configuration, used to grow synthetic boards.
+     *
+     * @param game the game of the tiles
+     * @return the tiles
+     */
+    private static List<Tile> createTileSet(Game game) {
+        ArrayList<Tile> tiles = new ArrayList<>();
+
+        for (TileConfig tileConfig : CONFIG.getTiles()) {
+            for (int i = 0; i < tileConfig.getCount(); i++) {
+                tiles.add(tileConfig.createTile(game));
+            }
+        }
+
+        return tiles;
+    }
+}
@@ -0,0 +1,37 @@
+package benchmark;
+
+import network.util.Crc32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the checksum of the packets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Crc32Benchmark {
+    /**
+     * Sizes of a command message, of a small snapshot and of a large snapshot.
+     */
+    @Param({"16", "4096", "65535"})
+    private int size;
+
+    private byte[] data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new byte[size];
+        new Random(BoardFixture.SEED).nextBytes(data);
+    }
+
+    @Benchmark
+    public int getCrc() {
+        return Crc32.getCrc(data, 0, data.length);
+    }
+}
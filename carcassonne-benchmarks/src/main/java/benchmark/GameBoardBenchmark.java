@@ -0,0 +1,55 @@
+package benchmark;
+
+import logic.Game;
+import logic.board.GameBoard;
+import logic.command.PlaceTileDrawnCommand;
+import logic.math.Vector2;
+import logic.tile.Tile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the tile placement on the board.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBoardBenchmark {
+    @Param({"10", "50", "72", "150", "300"})
+    private int numTiles;
+
+    private Game game;
+    private GameBoard board;
+    private Tile tileDrawn;
+    private PlaceTileDrawnCommand placeCommand;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = BoardFixture.create(numTiles, 2);
+        board = game.getBoard();
+        tileDrawn = BoardFixture.getTileDrawn(game);
+        placeCommand = new PlaceTileDrawnCommand(BoardFixture.findPositionForTileDrawn(game));
+    }
+
+    /**
+     * Places the tile drawn and unmakes the move, so the board is the same for every invocation.
+     * The placement includes the area merges and the closure checks.
+     */
+    @Benchmark
+    public long place() {
+        game.makeMove(placeCommand);
+        long hash = game.stateHash();
+        game.unmakeMove();
+        return hash;
+    }
+
+    @Benchmark
+    public List<Vector2> findFreePlacesForTile() {
+        return board.findFreePlacesForTile(tileDrawn);
+    }
+}
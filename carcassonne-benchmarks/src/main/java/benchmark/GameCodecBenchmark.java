@@ -0,0 +1,50 @@
+package benchmark;
+
+import logic.Game;
+import org.openjdk.jmh.annotations.*;
+import stream.ByteInputStream;
+import stream.ByteOutputStream;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the game snapshots: encoding, decoding and cloning.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameCodecBenchmark {
+    @Param({"10", "50", "72", "150", "300"})
+    private int numTiles;
+
+    private Game game;
+    private byte[] snapshot;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = BoardFixture.create(numTiles, 2);
+        snapshot = encode().toByteArray();
+    }
+
+    @Benchmark
+    public ByteOutputStream encode() {
+        ByteOutputStream stream = new ByteOutputStream(1024);
+        game.encode(stream, true);
+        return stream;
+    }
+
+    @Benchmark
+    public Game decode() {
+        Game decodedGame = new Game(BoardFixture.getConfig());
+        decodedGame.decode(new ByteInputStream(snapshot, snapshot.length), true);
+        return decodedGame;
+    }
+
+    @Benchmark
+    public Game cloneGame() {
+        return game.clone();
+    }
+}
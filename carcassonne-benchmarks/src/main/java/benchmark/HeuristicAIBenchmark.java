@@ -0,0 +1,53 @@
+package benchmark;
+
+import client.ai.HeuristicAI;
+import client.ai.TilePosition;
+import logic.Game;
+import logic.player.Player;
+import logic.tile.Tile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the search of the position of the tile drawn by the heuristic AI.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeuristicAIBenchmark {
+    @Param({"10", "50", "72", "150", "300"})
+    private int numTiles;
+
+    private BenchmarkAI ai;
+    private Tile tileDrawn;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Game game = BoardFixture.create(numTiles, 2);
+        ai = new BenchmarkAI(game.getTurnExecutor());
+        tileDrawn = BoardFixture.getTileDrawn(game);
+    }
+
+    @Benchmark
+    public TilePosition findPositionForTile() {
+        return ai.findPositionForTile(tileDrawn);
+    }
+
+    /**
+     * Heuristic AI exposing its search to the benchmark.
+     */
+    private static class BenchmarkAI extends HeuristicAI {
+        BenchmarkAI(Player player) {
+            super(player);
+        }
+
+        @Override
+        protected TilePosition findPositionForTile(Tile tile) {
+            return super.findPositionForTile(tile);
+        }
+    }
+}
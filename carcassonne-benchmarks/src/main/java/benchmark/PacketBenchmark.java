@@ -0,0 +1,70 @@
+package benchmark;
+
+import network.Packet;
+import network.ResizableByteBuffer;
+import network.message.IMessage;
+import network.message.game.GameDataMessage;
+import org.openjdk.jmh.annotations.*;
+import stream.ByteInputStream;
+import stream.ByteOutputStream;
+import stream.StreamVersion;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the packets carrying a game snapshot, the largest messages of the protocol.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketBenchmark {
+    @Param({"10", "50", "72", "150", "300"})
+    private int numTiles;
+
+    private GameDataMessage message;
+    private byte[] packetData;
+    private ResizableByteBuffer sendStream;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ByteOutputStream snapshotStream = new ByteOutputStream(1024);
+        BoardFixture.create(numTiles, 2).encode(snapshotStream, false);
+        message = new GameDataMessage(snapshotStream.toByteArray());
+
+        ByteOutputStream packetStream = new ByteOutputStream(1024);
+        Packet.create(message).encode(packetStream);
+        packetData = packetStream.toByteArray();
+        sendStream = new ResizableByteBuffer(1024, 1024 * 1024);
+    }
+
+    @Benchmark
+    public Packet create() {
+        return Packet.create(message);
+    }
+
+    @Benchmark
+    public int encode() {
+        ByteOutputStream stream = new ByteOutputStream(64);
+        Packet.create(message).encode(stream);
+        return stream.getLength();
+    }
+
+    @Benchmark
+    public int encodeInPlace() {
+        sendStream.clear();
+        ByteOutputStream stream = sendStream.openStream(StreamVersion.LEGACY);
+        Packet.encode(message, stream);
+        sendStream.commit(stream);
+        return sendStream.size();
+    }
+
+    @Benchmark
+    public IMessage decode() {
+        Packet packet = new Packet();
+        packet.decode(new ByteInputStream(packetData, packetData.length));
+        return packet.getMessage();
+    }
+}
@@ -129,7 +129,7 @@ public class HeuristicAI extends AI {
      * @param targetList The target list to add the chunks to.
      */
     private void findChunkToPlaceMeeple(Tile tile, TargetList<Chunk> targetList) {
-        for (ChunkId chunkId : ChunkId.values()) {
+        for (ChunkId chunkId : ChunkId.getValues()) {
             Chunk chunk = tile.getChunk(chunkId);
 
             if (!chunk.getArea().hasMeeple()) {
@@ -178,17 +178,11 @@ public class HeuristicAI extends AI {
         TargetList<Chunk> targetList = new TargetList<>(TARGET_LIST_MAX_SIZE);
         GameBoard board = getGame().getBoard();
 
-        for (Tile tile : board.getTiles()) {
-            for (ChunkId chunkId : ChunkId.values()) {
-                Chunk chunk = tile.getChunk(chunkId);
+        for (Chunk chunk : board.getMeepleChunks(player)) {
+            int score = fairyPlacementEvaluator.evaluate(chunk);
 
-                if (chunk.hasMeeple() && chunk.getMeeple().getOwner() == player) {
-                    int score = fairyPlacementEvaluator.evaluate(chunk);
-
-                    if (score >= FAIRY_PLACEMENT_MIN_SCORE) {
-                        targetList.add(chunk, score);
-                    }
-                }
+            if (score >= FAIRY_PLACEMENT_MIN_SCORE) {
+                targetList.add(chunk, score);
             }
         }
 
@@ -211,11 +205,13 @@ public class HeuristicAI extends AI {
     protected Direction findDirectionForDragon(Dragon dragon) {
         TargetList<Direction> targetList = new TargetList<>(TARGET_LIST_MAX_SIZE);
 
-        for (Direction direction : Direction.values()) {
-            Vector2 position = dragon.getPosition().add(direction.value());
+        Vector2 dragonPosition = dragon.getPosition();
+
+        for (Direction direction : Direction.getValues()) {
+            Vector2 offset = direction.value();
 
-            if (dragon.canMoveTo(position)) {
-                targetList.add(direction, dragonMovementEvaluator.evaluate(position));
+            if (dragon.canMoveTo(dragonPosition.x() + offset.x(), dragonPosition.y() + offset.y())) {
+                targetList.add(direction, dragonMovementEvaluator.evaluate(dragonPosition.add(offset)));
             }
         }
 
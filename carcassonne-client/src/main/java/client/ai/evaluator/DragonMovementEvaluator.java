@@ -1,11 +1,14 @@
 package client.ai.evaluator;
 
 import logic.Game;
+import logic.board.GameBoard;
 import logic.math.Vector2;
 import logic.player.Player;
 import logic.tile.Tile;
 import logic.tile.chunk.Chunk;
-import logic.tile.chunk.ChunkId;
+
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Evaluates the heuristic value of a dragon position.
@@ -81,11 +84,28 @@ public class DragonMovementEvaluator extends HeuristicEvaluator {
      * @param position the position to evaluate.
      */
     private void evaluateTiles(Vector2 position) {
-        for (Tile tile : game.getBoard().getTiles()) {
-            if (isOwnTile(tile)) {
-                evaluateOwnTiles(position, tile);
-            } else if (isEnemyTile(tile)) {
-                evaluateEnemyTiles(position, tile);
+        GameBoard board = game.getBoard();
+        Set<Tile> ownTiles = new HashSet<>();
+
+        for (Chunk chunk : board.getMeepleChunks(player)) {
+            if (ownTiles.add(chunk.getParent())) {
+                evaluateOwnTiles(position, chunk.getParent());
+            }
+        }
+
+        Set<Tile> enemyTiles = new HashSet<>();
+
+        for (Player enemy : game.getPlayers()) {
+            if (enemy == player) {
+                continue;
+            }
+
+            for (Chunk chunk : board.getMeepleChunks(enemy)) {
+                Tile tile = chunk.getParent();
+
+                if (!ownTiles.contains(tile) && enemyTiles.add(tile)) {
+                    evaluateEnemyTiles(position, tile);
+                }
             }
         }
     }
@@ -124,45 +144,4 @@ public class DragonMovementEvaluator extends HeuristicEvaluator {
                     : ENEMY_PROXIMITY_SCORE * (ENEMY_PROXIMITY_THRESHOLD - distance));
         }
     }
-
-    /**
-     * Returns whether the given tile is owned by the player.
-     *
-     * @param tile the tile to check.
-     * @return whether the given tile is owned by the player.
-     */
-    private boolean isOwnTile(Tile tile) {
-        for (ChunkId chunkId : ChunkId.values()) {
-            Chunk chunk = tile.getChunk(chunkId);
-
-            if (chunk.hasMeeple() && chunk.getMeeple().getOwner() == player) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Returns whether the given tile is owned by an enemy.
-     *
-     * @param tile the tile to check.
-     * @return whether the given tile is owned by an enemy.
-     */
-    private boolean isEnemyTile(Tile tile) {
-        boolean hasMeeple = false;
-
-        for (ChunkId chunkId : ChunkId.values()) {
-            Chunk chunk = tile.getChunk(chunkId);
-
-            if (chunk.hasMeeple()) {
-                hasMeeple = true;
-
-                if (chunk.getMeeple().getOwner() == player) {
-                    return false;
-                }
-            }
-        }
-
-        return hasMeeple;
-    }
 }
@@ -2,6 +2,7 @@ package client.ai.evaluator;
 
 import logic.Game;
 import logic.board.GameBoard;
+import logic.board.INeighbourVisitor;
 import logic.math.Vector2;
 import logic.tile.Direction;
 import logic.tile.Tile;
@@ -59,8 +60,19 @@ public class TilePositionEvaluator extends HeuristicEvaluator {
 
     private final GameBoard board;
 
+    /**
+     * Visitor of the neighbours of the evaluated tile, created once so the evaluation does not allocate it.
+     */
+    private final INeighbourVisitor neighborEvaluator;
+
+    /**
+     * Tile being evaluated by {@link #evaluate(Tile)}.
+     */
+    private Tile evaluatedTile;
+
     public TilePositionEvaluator(Game game) {
         this.board = game.getBoard();
+        this.neighborEvaluator = (edge, neighbor) -> evaluateNeighbor(evaluatedTile, neighbor, edge);
     }
 
     /**
@@ -88,12 +100,12 @@ public class TilePositionEvaluator extends HeuristicEvaluator {
     public int evaluate(Tile tile) {
         Vector2 position = tile.getPosition();
 
-        for (Direction edge : Direction.values()) {
-            Tile neighbor = board.getTileAt(position.add(edge.value()));
+        evaluatedTile = tile;
 
-            if (neighbor != null) {
-                evaluateNeighbor(tile, neighbor, edge);
-            }
+        try {
+            board.forEachNeighbour(position.x(), position.y(), neighborEvaluator);
+        } finally {
+            evaluatedTile = null;
         }
 
         return finalizeScore();
@@ -108,7 +120,7 @@ public class TilePositionEvaluator extends HeuristicEvaluator {
      */
     private void evaluateNeighbor(Tile tile, Tile neighborTile, Direction edge) {
         ChunkId[] ownChunkIds = edge.getChunkIds();
-        ChunkId[] neighborChunkIds = edge.negate().getChunkIds();
+        ChunkId[] neighborChunkIds = edge.getOppositeChunkIds();
 
         int numConnectedAreas = 0;
 
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 public class ClientConfig {
     private final String serverHost;
     private final int serverPort;
+    private final int protocolVersion;
     private final LoggerConfig loggerConfig;
     private final MatchConfig matchConfig;
     private final StatsConfig statsConfig;
@@ -42,6 +43,7 @@ public class ClientConfig {
 
         this.serverHost = serverNode.getRow("Host").getValue("Value");
         this.serverPort = Integer.parseInt(serverNode.getRow("Port").getValue("Value"));
+        this.protocolVersion = Integer.parseInt(serverNode.getRow("ProtocolVersion").getValue("Value"));
 
         this.loggerConfig = new LoggerConfig(loggerNode);
         this.matchConfig = new MatchConfig(matchNode);
@@ -81,6 +83,15 @@ public class ClientConfig {
         return serverPort;
     }
 
+    /**
+     * Returns the highest stream version the client asks the server for.
+     *
+     * @return the stream version of the client
+     */
+    public int getProtocolVersion() {
+        return protocolVersion;
+    }
+
     /**
      * Returns the logger configuration.
      *
@@ -33,6 +33,7 @@ public class ClientGameListener implements IGameListener {
     @Override
     public void onTurnStarted(int turn, Tile tileDrawn) {
         Logger.player(LoggerCategory.GAME, game.getTurnExecutor(), "--- TURN %d STARTED ---", turn);
+        client.getBattleService().onTurnStarted(game);
     }
 
     /**
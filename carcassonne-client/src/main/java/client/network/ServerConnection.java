@@ -8,8 +8,11 @@ import client.network.socket.TcpClientSocket;
 import network.Packet;
 import network.ResizableByteBuffer;
 import network.message.IMessage;
+import network.message.MessageType;
+import network.message.connection.ServerHelloMessage;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
+import stream.StreamVersion;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -53,6 +56,7 @@ public class ServerConnection implements ITcpClientSocketListener {
     private final ResizableByteBuffer receiveStream;
     private final ResizableByteBuffer sendStream;
     private final MessageDispatcher messageDispatcher;
+    private volatile int protocolVersion = StreamVersion.LEGACY;
 
     public ServerConnection() throws IOException {
         clientSocket = new TcpClientSocket();
@@ -70,6 +74,7 @@ public class ServerConnection implements ITcpClientSocketListener {
      * @param port The port of the server.
      */
     public void connect(String host, int port) {
+        protocolVersion = StreamVersion.LEGACY;
         clientSocket.connect(new InetSocketAddress(host, port));
     }
 
@@ -136,10 +141,22 @@ public class ServerConnection implements ITcpClientSocketListener {
                 return;
             }
 
-            Logger.debug(LoggerCategory.NETWORK, "Received message %s", packet.getMessage());
+            IMessage message = packet.getMessage(protocolVersion);
+            Logger.debug(LoggerCategory.NETWORK, "Received message %s", message);
+
+            /* The next packets of the server are encoded with the negotiated version. */
+            if (message.getType() == MessageType.SERVER_HELLO) {
+                protocolVersion = ((ServerHelloMessage) message).getProtocolVersion();
+
+                if (protocolVersion < StreamVersion.LEGACY) {
+                    Logger.error(LoggerCategory.NETWORK, "Server hello has no protocol version, the server is not compatible. Closing connection...");
+                    close();
+                    return;
+                }
+            }
 
             bytesRead += read;
-            messageDispatcher.handle(packet.getMessage());
+            messageDispatcher.handle(message);
         }
 
         receiveStream.remove(bytesRead);
@@ -167,25 +184,25 @@ public class ServerConnection implements ITcpClientSocketListener {
     public synchronized void send(IMessage message) {
         Logger.debug(LoggerCategory.NETWORK, "Sending message %s", message);
 
-        ByteOutputStream stream = new ByteOutputStream(32);
-        Packet packet = Packet.create(message);
-        packet.encode(stream);
+        boolean writing = sendStream.size() != 0;
+
+        /* The packet is encoded in place at the end of the send stream. */
+        ByteOutputStream stream = sendStream.openStream(protocolVersion);
+        Packet.encode(message, stream);
+        sendStream.commit(stream);
 
-        send(stream.getBytes(), 0, stream.getLength());
+        if (!writing) {
+            clientSocket.write(ByteBuffer.wrap(sendStream.getBuffer(), 0, sendStream.size()));
+        }
     }
 
     /**
-     * Sends the given data to the server.
+     * Gets the stream version negotiated with the server.
      *
-     * @param buffer The data to send.
+     * @return The {@link StreamVersion} of the connection.
      */
-    private synchronized void send(byte[] buffer, int offset, int length) {
-        if (sendStream.size() == 0) {
-            sendStream.put(buffer, offset, length);
-            clientSocket.write(ByteBuffer.wrap(sendStream.getBuffer(), 0, sendStream.size()));
-        } else {
-            sendStream.put(buffer, offset, length);
-        }
+    public int getProtocolVersion() {
+        return protocolVersion;
     }
 
     public MessageDispatcher getMessageDispatcher() {
@@ -0,0 +1,21 @@
+package client.selfplay;
+
+import logic.config.GameConfig;
+
+import java.util.Objects;
+
+/**
+ * Main class of the headless self-play runner.
+ * Usage: SelfPlayMain [numGames] [numPlayers] [numThreads] [baseSeed]
+ */
+public class SelfPlayMain {
+    public static void main(String[] args) throws InterruptedException {
+        int numGames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int numThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long baseSeed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+
+        SelfPlayRunner runner = new SelfPlayRunner(Objects.requireNonNull(GameConfig.loadFromResources()), numPlayers, numThreads);
+        System.out.print(runner.run(numGames, baseSeed));
+    }
+}
@@ -0,0 +1,130 @@
+package client.selfplay;
+
+import client.stats.GameStatistics;
+import logic.Game;
+import logic.player.Player;
+
+/**
+ * Represents the aggregated result of a batch of self-play games.
+ */
+public class SelfPlayReport {
+    private final GameStatistics statistics;
+    private final int[] wins;
+    private int numGames;
+    private long numTurns;
+    private long elapsedNanos;
+
+    public SelfPlayReport(int numPlayers) {
+        this.statistics = new GameStatistics();
+        this.wins = new int[numPlayers];
+    }
+
+    /**
+     * Appends the result of the given ended game.
+     *
+     * @param game the ended game
+     */
+    public synchronized void append(Game game) {
+        int winnerIndex = 0;
+
+        for (int i = 1; i < game.getPlayerCount(); i++) {
+            Player player = game.getPlayer(i);
+
+            if (player.getScore() > game.getPlayer(winnerIndex).getScore()) {
+                winnerIndex = i;
+            }
+        }
+
+        statistics.append(game);
+        wins[winnerIndex]++;
+        numGames++;
+        numTurns += game.getTurnCount();
+    }
+
+    /**
+     * Sets the wall-clock time spent to play the games.
+     *
+     * @param elapsedNanos the elapsed time in nanoseconds
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the aggregated statistics of the players.
+     *
+     * @return the aggregated statistics
+     */
+    public GameStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Gets the number of wins of the player seated at the given index.
+     * A draw is won by the first player seated.
+     *
+     * @param playerIndex the index of the player in the games
+     * @return the number of wins
+     */
+    public synchronized int getWins(int playerIndex) {
+        return wins[playerIndex];
+    }
+
+    /**
+     * Gets the number of games played.
+     *
+     * @return the number of games
+     */
+    public synchronized int getNumGames() {
+        return numGames;
+    }
+
+    /**
+     * Gets the total number of turns played over all the games.
+     *
+     * @return the number of turns
+     */
+    public synchronized long getNumTurns() {
+        return numTurns;
+    }
+
+    /**
+     * Gets the wall-clock time spent to play the games.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played per second.
+     *
+     * @return the games per second
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getNumGames() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Returns a human-readable summary of the report.
+     *
+     * @return the summary
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append("Games: %d, turns: %d, elapsed: %.2f s, %.1f games/s%n".formatted(numGames, numTurns, elapsedNanos / 1_000_000_000.0, getGamesPerSecond()));
+
+        for (int i = 0; i < wins.length; i++) {
+            int id = i + 1;
+            int totalScore = statistics.getPlayer(id) != null ? statistics.getPlayer(id).getTotalScore() : 0;
+            double averageScore = numGames == 0 ? 0 : (double) totalScore / numGames;
+
+            builder.append("Player %d: %d wins, %.1f average score%n".formatted(id, wins[i], averageScore));
+        }
+
+        return builder.toString();
+    }
+}
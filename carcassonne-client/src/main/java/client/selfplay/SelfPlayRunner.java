@@ -0,0 +1,119 @@
+package client.selfplay;
+
+import client.ai.HeuristicAI;
+import logic.Game;
+import logic.config.GameConfig;
+import logic.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays bot-vs-bot games in process, without server, network, snapshots or logging.
+ * Each game is a master game driven directly by its AI players, and the games are played in parallel on a thread pool.
+ */
+public class SelfPlayRunner {
+    /**
+     * Stack size of the worker threads.
+     * A whole game is played in the call stack of {@link Game#start()}, as each command triggers the next player.
+     */
+    private static final long WORKER_STACK_SIZE = 64L * 1024 * 1024;
+
+    private final GameConfig config;
+    private final int numPlayers;
+    private final int numThreads;
+
+    public SelfPlayRunner(GameConfig config, int numPlayers, int numThreads) {
+        if (numPlayers < config.getMinPlayers() || numPlayers > config.getMaxPlayers()) {
+            throw new IllegalArgumentException("Invalid number of players: " + numPlayers);
+        }
+
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive.");
+        }
+
+        this.config = config;
+        this.numPlayers = numPlayers;
+        this.numThreads = numThreads;
+    }
+
+    /**
+     * Plays the given number of games.
+     * The game of index i uses the seed baseSeed + i, so a batch can be replayed identically.
+     *
+     * @param numGames the number of games to play
+     * @param baseSeed the seed of the first game
+     * @return the report of the games
+     * @throws InterruptedException if the thread is interrupted while waiting for the games
+     */
+    public SelfPlayReport run(int numGames, long baseSeed) throws InterruptedException {
+        SelfPlayReport report = new SelfPlayReport(numPlayers);
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads, createThreadFactory());
+        List<Future<?>> futures = new ArrayList<>(numGames);
+        long startTime = System.nanoTime();
+
+        try {
+            for (int i = 0; i < numGames; i++) {
+                long seed = baseSeed + i;
+                futures.add(executor.submit(() -> report.append(play(seed))));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play game failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        report.setElapsedNanos(System.nanoTime() - startTime);
+        return report;
+    }
+
+    /**
+     * Plays a whole game with the given seed.
+     *
+     * @param seed the seed of the tile stack
+     * @return the ended game
+     */
+    public Game play(long seed) {
+        Game game = new Game(config);
+
+        for (int i = 0; i < numPlayers; i++) {
+            Player player = new Player(i + 1);
+            game.addPlayer(player);
+            player.setListener(new HeuristicAI(player));
+        }
+
+        game.getStack().setSeed(seed);
+        game.start();
+
+        if (!game.isOver()) {
+            throw new IllegalStateException("Game did not end.");
+        }
+
+        return game;
+    }
+
+    /**
+     * Creates the factory of the worker threads.
+     *
+     * @return the thread factory
+     */
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(null, runnable, "self-play-" + counter.incrementAndGet(), WORKER_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
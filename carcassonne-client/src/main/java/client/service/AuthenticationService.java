@@ -52,7 +52,7 @@ public class AuthenticationService extends ServiceBase implements IMessageHandle
      * Authenticates the client with the server.
      */
     public void authenticate() {
-        this.client.getServerConnection().send(new ClientHelloMessage());
+        this.client.getServerConnection().send(new ClientHelloMessage(client.getConfig().getProtocolVersion()));
     }
 
     /**
@@ -7,6 +7,8 @@ import client.logger.Logger;
 import client.logger.LoggerCategory;
 import client.message.IMessageHandler;
 import logic.Game;
+import logic.GameDelta;
+import logic.command.ICommand;
 import logic.config.GameConfig;
 import logic.player.Player;
 import logic.state.GameState;
@@ -14,8 +16,10 @@ import logic.tile.Tile;
 import network.message.IMessage;
 import network.message.game.GameCommandMessage;
 import network.message.game.GameDataMessage;
+import network.message.game.GameDeltaMessage;
 import network.message.game.GameMasterNextTurnDataMessage;
 import network.message.game.GameResultMessage;
+import network.message.game.GameResyncRequestMessage;
 import stream.ByteInputStream;
 
 import java.util.ArrayList;
@@ -29,11 +33,23 @@ public class BattleService extends ServiceBase implements IMessageHandler {
      * It contains all the information about the current battle without the stack.
      * Used to know the current state of the battle and by the client to know what to do.
      * Initialized by the {@link GameDataMessage}.
-     * Updated by the {@link GameCommandMessage}.
+     * Updated by the {@link GameCommandMessage}, or replaced by the {@link GameDeltaMessage} when out of sync.
      * Disposed by the {@link GameResultMessage} or if the connection is lost.
      */
     private Game gameView;
 
+    /**
+     * Copy of the game view at the start of the current turn.
+     * When the game view is out of sync, the server deltas are applied from this copy.
+     */
+    private Game turnStartView;
+
+    /**
+     * Whether a resync has been requested and not received yet.
+     * The game messages received meanwhile are already in the resync data.
+     */
+    private boolean resyncing;
+
     public BattleService(Client client) {
         super(client);
     }
@@ -50,7 +66,8 @@ public class BattleService extends ServiceBase implements IMessageHandler {
             case GAME_COMMAND -> onGameCommand((GameCommandMessage) message);
             case GAME_MASTER_NEXT_TURN_DATA -> onGameMasterNextTurnData((GameMasterNextTurnDataMessage) message);
             case GAME_RESULT -> onGameResult((GameResultMessage) message);
-            case CLIENT_HELLO, SERVER_HELLO, JOIN_MATCHMAKING, MATCHMAKING_DATA, LEAVE_MATCHMAKING, MATCHMAKING_LEFT, MATCHMAKING_FAILED, GAME_COMMAND_REQUEST -> {
+            case GAME_DELTA -> onGameDelta((GameDeltaMessage) message);
+            case CLIENT_HELLO, SERVER_HELLO, JOIN_MATCHMAKING, MATCHMAKING_DATA, LEAVE_MATCHMAKING, MATCHMAKING_LEFT, MATCHMAKING_FAILED, GAME_COMMAND_REQUEST, GAME_RESYNC_REQUEST -> {
                 // ignored
             }
             default -> {
@@ -68,8 +85,54 @@ public class BattleService extends ServiceBase implements IMessageHandler {
         Logger.info(LoggerCategory.SERVICE, "Battle game data received. Waiting my turn...");
 
         /* Load the snapshot of the game data. */
-        gameView = new Game(client.getGameConfig());
-        gameView.decode(new ByteInputStream(message.getData(), message.getData().length), false);
+        Game game = new Game(client.getGameConfig());
+        game.decode(new ByteInputStream(message.getData(), message.getData().length, message.getDataVersion()), false);
+
+        resyncing = false;
+        turnStartView = null;
+        setGameView(game);
+    }
+
+    /**
+     * Handles a game delta message, sent in response to a resync request.
+     * The deltas are applied to a copy of the game view at the start of the turn.
+     *
+     * @param message The message to handle.
+     */
+    private void onGameDelta(GameDeltaMessage message) {
+        if (turnStartView == null) {
+            Logger.warn(LoggerCategory.SERVICE, "Battle game delta received without game view to apply it to, requesting a full snapshot.");
+            requestResync();
+            return;
+        }
+
+        Logger.info(LoggerCategory.SERVICE, "Battle game delta received from turn %d.", turnStartView.getTurnCount());
+
+        Game game = turnStartView.clone();
+
+        try {
+            for (GameDelta delta : message.getDeltas()) {
+                delta.applyTo(game);
+            }
+        } catch (RuntimeException e) {
+            /* The copy at the start of the turn is not the one of the server, only a full snapshot can resync it. */
+            Logger.warn(LoggerCategory.SERVICE, "Battle game delta cannot be applied (%s), requesting a full snapshot.", e.getMessage());
+            turnStartView = null;
+            requestResync();
+            return;
+        }
+
+        resyncing = false;
+        setGameView(game);
+    }
+
+    /**
+     * Sets the game view restored from the server data.
+     *
+     * @param game The restored game view.
+     */
+    private void setGameView(Game game) {
+        gameView = game;
 
         /* Attach a listener to the game view */
         gameView.setListener(new ClientGameListener(client, gameView));
@@ -108,9 +171,47 @@ public class BattleService extends ServiceBase implements IMessageHandler {
      * @param message The message to handle.
      */
     private void onGameCommand(GameCommandMessage message) {
+        if (resyncing) {
+            return;
+        }
+
         if (gameView.getTurnExecutor().getId() != client.getAuthenticationService().getUserId()) {
-            Logger.debug(LoggerCategory.SERVICE, "Server command %s received and executed.", message.getCommand().getType());
-            message.getCommand().execute(gameView);
+            ICommand command = message.getCommand();
+
+            if (gameView.getState().getType() != command.getRequiredState() || command.canBeExecuted(gameView) != ICommand.ERROR_SUCCESS) {
+                Logger.warn(LoggerCategory.SERVICE, "Server command %s cannot be executed, the game view is out of sync.", command.getType());
+                requestResync();
+                return;
+            }
+
+            Logger.debug(LoggerCategory.SERVICE, "Server command %s received and executed.", command.getType());
+            command.execute(gameView);
+        }
+    }
+
+    /**
+     * Requests the server to resync the game view.
+     * The server answers with the deltas since the start of the turn copy, or with a full snapshot.
+     */
+    private void requestResync() {
+        resyncing = true;
+
+        if (turnStartView != null) {
+            client.getServerConnection().send(new GameResyncRequestMessage(turnStartView.getTurnCount(), turnStartView.getBoard().getStateHash()));
+        } else {
+            client.getServerConnection().send(new GameResyncRequestMessage(-1, 0));
+        }
+    }
+
+    /**
+     * Called when a turn is started on a game.
+     * The game view is copied, so it can be resynced from the start of the turn.
+     *
+     * @param game The game whose turn started.
+     */
+    public void onTurnStarted(Game game) {
+        if (game == gameView) {
+            turnStartView = game.clone();
         }
     }
 
@@ -120,6 +221,10 @@ public class BattleService extends ServiceBase implements IMessageHandler {
      * @param message The message to handle.
      */
     private void onGameMasterNextTurnData(GameMasterNextTurnDataMessage message) {
+        if (resyncing) {
+            return;
+        }
+
         ArrayList<Tile> tiles = new ArrayList<>();
         tiles.add(gameView.getConfig().getTile(message.getTileConfigIndex()).createTile(gameView));
         gameView.getStack().fill(tiles);
@@ -135,10 +240,12 @@ public class BattleService extends ServiceBase implements IMessageHandler {
         Logger.info(LoggerCategory.SERVICE, "Battle game result received.");
 
         gameView = null;
+        turnStartView = null;
+        resyncing = false;
 
         /* Load the full game data. */
         Game masterGame = new Game(GameConfig.loadFromResources());
-        masterGame.decode(new ByteInputStream(message.getData(), message.getData().length), true);
+        masterGame.decode(new ByteInputStream(message.getData(), message.getData().length, message.getDataVersion()), true);
 
         /* Record the game result. */
         client.getGameStatisticsService().onBattleOver(masterGame);
@@ -158,6 +265,8 @@ public class BattleService extends ServiceBase implements IMessageHandler {
     @Override
     public void onDisconnect() {
         gameView = null;
+        turnStartView = null;
+        resyncing = false;
     }
 
     /**
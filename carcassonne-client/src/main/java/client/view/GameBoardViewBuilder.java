@@ -382,7 +382,7 @@ public class GameBoardViewBuilder {
             graphics.drawImage(tileImage, tileImagePosition.x(), tileImagePosition.y(), null);
             graphics.drawString("%s %d %d".formatted(tile.getConfig().getModel(), tile.getPosition().x(), tile.getPosition().y()), tileImagePosition.x() + TILE_WIDTH / 4, tileImagePosition.y() + TILE_HEIGHT / 2);
 
-            for (ChunkId chunkId : ChunkId.values()) {
+            for (ChunkId chunkId : ChunkId.getValues()) {
                 Chunk chunk = tile.getChunk(chunkId);
 
                 // Show zones
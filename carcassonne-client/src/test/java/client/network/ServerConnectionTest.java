@@ -3,13 +3,16 @@ package client.network;
 import client.message.MessageDispatcher;
 import network.Packet;
 import network.message.IMessage;
+import network.message.MessageType;
 import network.message.connection.ClientHelloMessage;
 import network.message.connection.ServerHelloMessage;
 import network.message.game.GameResultMessage;
+import network.util.Crc32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reflection.ReflectionUtils;
 import stream.ByteOutputStream;
+import stream.StreamVersion;
 
 import java.nio.ByteBuffer;
 
@@ -114,4 +117,25 @@ class ServerConnectionTest {
         assertEquals(1, receivedMessageCount);
         assertFalse(isClosedCalled);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNegotiateVersionOnServerHello() {
+        receiveBuffer.put(getPacketBytes(Packet.create(new ServerHelloMessage(1, StreamVersion.COMPACT))));
+
+        serverConnection.onReceive(receiveBuffer.position());
+
+        assertEquals(StreamVersion.COMPACT, serverConnection.getProtocolVersion());
+        assertFalse(isClosedCalled);
+    }
+
+    @Test
+    void testCloseOnServerHelloWithoutVersion() {
+        byte[] data = {0, 0, 0, 1};
+        receiveBuffer.put(getPacketBytes(new Packet(MessageType.SERVER_HELLO, Crc32.getCrc(data), data.length, data)));
+
+        serverConnection.onReceive(receiveBuffer.position());
+
+        assertTrue(isClosedCalled);
+        assertEquals(0, receivedMessageCount);
+    }
+}
@@ -0,0 +1,54 @@
+package client.selfplay;
+
+import logic.Game;
+import logic.config.GameConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfPlayRunnerTest {
+    private final GameConfig config = Objects.requireNonNull(GameConfig.loadFromResources());
+
+    @Test
+    void testPlayEndsTheGame() {
+        SelfPlayRunner runner = new SelfPlayRunner(config, 2, 1);
+        Game game = runner.play(42);
+
+        assertTrue(game.isOver());
+        assertTrue(game.getStack().isEmpty());
+    }
+
+    @Test
+    void testSameSeedGivesSameGame() {
+        SelfPlayRunner runner = new SelfPlayRunner(config, 3, 1);
+        Game game1 = runner.play(42);
+        Game game2 = runner.play(42);
+
+        for (int i = 0; i < game1.getPlayerCount(); i++) {
+            assertEquals(game1.getPlayer(i).getScore(), game2.getPlayer(i).getScore());
+        }
+
+        assertEquals(game1.stateHash(), game2.stateHash());
+    }
+
+    @Test
+    void testRunReportsAllGames() throws InterruptedException {
+        SelfPlayRunner runner = new SelfPlayRunner(config, 2, 2);
+        SelfPlayReport report = runner.run(4, 0);
+
+        assertEquals(4, report.getNumGames());
+        assertEquals(4, report.getWins(0) + report.getWins(1));
+        assertTrue(report.getNumTurns() > 0);
+        assertTrue(report.getGamesPerSecond() > 0);
+        assertNotNull(report.getStatistics().getPlayer(1));
+    }
+
+    @Test
+    void testThrowWhenInvalidNumberOfPlayers() {
+        assertThrows(IllegalArgumentException.class, () -> new SelfPlayRunner(config, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SelfPlayRunner(config, config.getMaxPlayers() + 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SelfPlayRunner(config, 2, 0));
+    }
+}
@@ -6,6 +6,7 @@ import client.network.ServerConnection;
 import logic.config.GameConfig;
 import network.message.IMessage;
 import network.message.MessageType;
+import network.message.connection.ClientHelloMessage;
 import network.message.connection.ServerHelloMessage;
 import org.junit.jupiter.api.Test;
 
@@ -26,7 +27,7 @@ class AuthenticationServiceTest {
                         @Override
                         public synchronized void send(IMessage message) {
                             if (message.getType() == MessageType.CLIENT_HELLO) {
-                                called[0] = true;
+                                called[0] = ((ClientHelloMessage) message).getProtocolVersion() == getConfig().getProtocolVersion();
                             }
                         }
                     };
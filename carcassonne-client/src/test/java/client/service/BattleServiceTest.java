@@ -3,11 +3,14 @@ package client.service;
 import client.Client;
 import client.ClientTestUtils;
 import client.ai.HeuristicAI;
+import client.network.ServerConnection;
 import logic.Game;
+import logic.GameDelta;
 import logic.IGameListener;
 import logic.board.GameBoard;
 import logic.command.ICommand;
 import logic.command.PlaceTileDrawnCommand;
+import logic.command.RotateTileDrawnCommand;
 import logic.command.SkipMeeplePlacementCommand;
 import logic.dragon.Dragon;
 import logic.dragon.Fairy;
@@ -17,16 +20,23 @@ import logic.player.Player;
 import logic.state.GameState;
 import logic.state.turn.GameTurnPlaceTileState;
 import logic.tile.Tile;
+import logic.math.Vector2;
 import logic.tile.chunk.Chunk;
+import network.message.IMessage;
+import network.message.MessageType;
 import network.message.game.GameCommandMessage;
 import network.message.game.GameDataMessage;
+import network.message.game.GameDeltaMessage;
 import network.message.game.GameMasterNextTurnDataMessage;
 import network.message.game.GameResultMessage;
+import network.message.game.GameResyncRequestMessage;
 import org.junit.jupiter.api.Test;
 import reflection.ReflectionUtils;
 import stream.ByteOutputStream;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -243,4 +253,166 @@ class BattleServiceTest {
         assertEquals(null, battleService.getGameView());
         assertTrue(battleOverCalled[0]);
     }
+
+    private static void placeTileDrawn(Game game) {
+        Tile tileDrawn = ((GameTurnPlaceTileState) game.getState()).getTileDrawn();
+
+        while (game.getBoard().findFreePlacesForTile(tileDrawn).isEmpty()) {
+            game.executeCommand(new RotateTileDrawnCommand(tileDrawn.getRotation().next()));
+        }
+
+        Vector2 position = game.getBoard().findFreePlacesForTile(tileDrawn).get(0);
+        game.executeCommand(new PlaceTileDrawnCommand(position));
+    }
+
+    @Test
+    void testOutOfSyncCommandRequestsResync() throws IOException {
+        List<IMessage> sentMessages = new ArrayList<>();
+        ServerConnection serverConnection = new ServerConnection() {
+            @Override
+            public synchronized void send(IMessage message) {
+                sentMessages.add(message);
+            }
+        };
+
+        Client client = ClientTestUtils.createMockClient(serverConnection, 1);
+        BattleService battleService = client.getBattleService();
+
+        Game game = createGame(client);
+
+        ByteOutputStream stream = new ByteOutputStream(1000);
+        game.encode(stream, false);
+
+        battleService.handleMessage(new GameDataMessage(stream.toByteArray()));
+        battleService.handleMessage(new GameCommandMessage(new SkipMeeplePlacementCommand()));
+        battleService.handleMessage(new GameCommandMessage(new SkipMeeplePlacementCommand()));
+
+        assertEquals(1, sentMessages.size());
+        assertEquals(MessageType.GAME_RESYNC_REQUEST, sentMessages.get(0).getType());
+        assertEquals(-1, ((GameResyncRequestMessage) sentMessages.get(0)).getTurn());
+    }
+
+    @Test
+    void testGameDeltaRestoresGameView() throws IOException {
+        Client client = ClientTestUtils.createMockClient(null, 1);
+        BattleService battleService = client.getBattleService();
+
+        Game game = createGame(client);
+
+        ByteOutputStream stream = new ByteOutputStream(1000);
+        game.encode(stream, false);
+
+        battleService.handleMessage(new GameDataMessage(stream.toByteArray()));
+        battleService.getGameView().getPlayerById(1).setListener(new IPlayerListener() {
+            @Override
+            public void onWaitingPlaceTile() {
+
+            }
+
+            @Override
+            public void onWaitingMeeplePlacement() {
+
+            }
+
+            @Override
+            public void onWaitingDragonMove() {
+
+            }
+        });
+
+        /* The first turn is played on the game view, the second one is missed. */
+        game.executeCommand(new PlaceTileDrawnCommand(GameBoard.STARTING_TILE_POSITION));
+        game.executeCommand(new SkipMeeplePlacementCommand());
+        battleService.handleMessage(new GameCommandMessage(new PlaceTileDrawnCommand(GameBoard.STARTING_TILE_POSITION)));
+        battleService.handleMessage(new GameCommandMessage(new SkipMeeplePlacementCommand()));
+        battleService.handleMessage(new GameMasterNextTurnDataMessage(game.getConfig().getTileIndex(((GameTurnPlaceTileState) game.getState()).getTileDrawn().getConfig())));
+
+        Game turnStart = game.clone();
+
+        placeTileDrawn(game);
+        game.executeCommand(new SkipMeeplePlacementCommand());
+
+        battleService.handleMessage(new GameDeltaMessage(List.of(GameDelta.create(turnStart, game, true))));
+
+        Game gameView = battleService.getGameView();
+
+        assertEquals(3, gameView.getTurnCount());
+        assertEquals(game.getBoard().getTileCount(), gameView.getBoard().getTileCount());
+        assertEquals(game.getBoard().getStateHash(), gameView.getBoard().getStateHash());
+        assertEquals(game.getState().getType(), gameView.getState().getType());
+        assertEquals(game.getTurnExecutor().getId(), gameView.getTurnExecutor().getId());
+        assertEquals(HeuristicAI.class, gameView.getPlayerById(1).getListener().getClass());
+    }
+
+    @Test
+    void testFailingGameDeltaRequestsSnapshot() throws IOException {
+        List<IMessage> sentMessages = new ArrayList<>();
+        ServerConnection serverConnection = new ServerConnection() {
+            @Override
+            public synchronized void send(IMessage message) {
+                sentMessages.add(message);
+            }
+        };
+
+        Client client = ClientTestUtils.createMockClient(serverConnection, 1);
+        BattleService battleService = client.getBattleService();
+
+        Game game = createGame(client);
+
+        ByteOutputStream stream = new ByteOutputStream(1000);
+        game.encode(stream, false);
+
+        battleService.handleMessage(new GameDataMessage(stream.toByteArray()));
+        battleService.getGameView().getPlayerById(1).setListener(new IPlayerListener() {
+            @Override
+            public void onWaitingPlaceTile() {
+
+            }
+
+            @Override
+            public void onWaitingMeeplePlacement() {
+
+            }
+
+            @Override
+            public void onWaitingDragonMove() {
+
+            }
+        });
+
+        game.executeCommand(new PlaceTileDrawnCommand(GameBoard.STARTING_TILE_POSITION));
+        game.executeCommand(new SkipMeeplePlacementCommand());
+        battleService.handleMessage(new GameCommandMessage(new PlaceTileDrawnCommand(GameBoard.STARTING_TILE_POSITION)));
+        battleService.handleMessage(new GameCommandMessage(new SkipMeeplePlacementCommand()));
+        battleService.handleMessage(new GameMasterNextTurnDataMessage(game.getConfig().getTileIndex(((GameTurnPlaceTileState) game.getState()).getTileDrawn().getConfig())));
+
+        Game turnStart = game.clone();
+
+        placeTileDrawn(game);
+        game.executeCommand(new SkipMeeplePlacementCommand());
+
+        /* The delta starts from the turn of the game view, but from another board. */
+        GameDelta delta = GameDelta.create(turnStart, game, true);
+        battleService.handleMessage(new GameDeltaMessage(List.of(new GameDelta(delta.getFromTurn(), delta.getFromHash() + 1, delta.getToTurn(), delta.getData()))));
+
+        assertEquals(1, sentMessages.size());
+        assertEquals(MessageType.GAME_RESYNC_REQUEST, sentMessages.get(0).getType());
+        assertEquals(-1, ((GameResyncRequestMessage) sentMessages.get(0)).getTurn());
+
+        /* The commands are ignored until the full snapshot is received. */
+        battleService.handleMessage(new GameCommandMessage(new SkipMeeplePlacementCommand()));
+        assertEquals(1, sentMessages.size());
+
+        stream = new ByteOutputStream(1000);
+        game.encode(stream, false);
+        battleService.handleMessage(new GameDataMessage(stream.toByteArray()));
+
+        Game gameView = battleService.getGameView();
+
+        assertEquals(game.getTurnCount(), gameView.getTurnCount());
+        assertEquals(game.getBoard().getStateHash(), gameView.getBoard().getStateHash());
+
+        battleService.handleMessage(new GameCommandMessage(new SkipMeeplePlacementCommand()));
+        assertEquals(2, sentMessages.size());
+    }
 }
@@ -1,6 +1,7 @@
 package logic;
 
 import logic.board.GameBoard;
+import logic.board.ZobristKeys;
 import logic.command.ICommand;
 import logic.config.GameConfig;
 import logic.dragon.Dragon;
@@ -8,11 +9,13 @@ import logic.dragon.Fairy;
 import logic.exception.NotEnoughPlayerException;
 import logic.exception.TooManyPlayerException;
 import logic.meeple.Meeple;
+import logic.player.IPlayerListener;
 import logic.player.Player;
 import logic.state.GameStartState;
 import logic.state.GameState;
 import logic.state.GameStateFactory;
 import logic.state.GameStateType;
+import logic.state.turn.GameTurnPlaceTileState;
 import logic.tile.Tile;
 import logic.tile.TileStack;
 import logic.tile.chunk.Chunk;
@@ -20,17 +23,134 @@ import stream.ByteInputStream;
 import stream.ByteOutputStream;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 /**
  * The Game class is the main class of the game. It contains all the logic of the game.
  */
 public class Game {
+    /**
+     * Listener ignoring all the game events.
+     * Also used to silence the game events while a move is made.
+     */
+    private static final IGameListener EMPTY_LISTENER = new IGameListener() {
+        @Override
+        public void onTurnStarted(int turn, Tile tileDrawn) {
+            // ignored
+        }
+
+        @Override
+        public void onTurnEnded(int turn) {
+            // ignored
+        }
+
+        @Override
+        public void onGameStarted() {
+            // ignored
+        }
+
+        @Override
+        public void onGameEnded() {
+            // ignored
+        }
+
+        @Override
+        public void onStateChanged(GameState state) {
+            // ignored
+        }
+
+        @Override
+        public void onTilePlaced(Tile tile) {
+            // ignored
+        }
+
+        @Override
+        public void onTileRotated(Tile tile) {
+            // ignored
+        }
+
+        @Override
+        public void onMeeplePlaced(Chunk chunk, Meeple meeple) {
+            // ignored
+        }
+
+        @Override
+        public void onMeepleRemoved(Chunk chunk, Meeple meeple) {
+            // ignored
+        }
+
+        @Override
+        public void onFairySpawned(Fairy fairy) {
+            // ignored
+        }
+
+        @Override
+        public void onFairyDeath(Fairy fairy) {
+            // ignored
+        }
+
+        @Override
+        public void onDragonSpawned(Dragon dragon) {
+            // ignored
+        }
+
+        @Override
+        public void onDragonDeath(Dragon dragon) {
+            // ignored
+        }
+
+        @Override
+        public void onDragonMove(Dragon dragon) {
+            // ignored
+        }
+
+        @Override
+        public void onScoreEarned(Player player, int score) {
+            // ignored
+        }
+
+        @Override
+        public void onCommandExecuted(ICommand command) {
+            // ignored
+        }
+
+        @Override
+        public void onCommandFailed(ICommand command, int errorCode) {
+            // ignored
+        }
+    };
+
+    /**
+     * Player listener used while a move is made, the players must not be asked to play.
+     */
+    private static final IPlayerListener EMPTY_PLAYER_LISTENER = new IPlayerListener() {
+        @Override
+        public void onWaitingPlaceTile() {
+            // ignored
+        }
+
+        @Override
+        public void onWaitingMeeplePlacement() {
+            // ignored
+        }
+
+        @Override
+        public void onWaitingDragonMove() {
+            // ignored
+        }
+    };
+
     /**
      * Game configuration of the game.
      */
     private final GameConfig config;
 
+    /**
+     * Journal of the changes made by the moves, used to unmake them.
+     */
+    private final GameJournal journal;
+
     /**
      * Game board of the game.
      * Contains all the tiles, the dragon and fairy.
@@ -68,98 +188,19 @@ public class Game {
      */
     private boolean master;
 
+    /**
+     * Indicates if a move is being made.
+     */
+    private boolean makingMove;
+
     public Game(GameConfig config) {
         this.config = config;
+        this.journal = new GameJournal();
         this.board = new GameBoard(this);
         this.stack = new TileStack(this);
         this.players = new ArrayList<>(config.getMaxPlayers());
         this.master = true;
-        this.listener = new IGameListener() {
-            @Override
-            public void onTurnStarted(int turn, Tile tileDrawn) {
-                // ignored
-            }
-
-            @Override
-            public void onTurnEnded(int turn) {
-                // ignored
-            }
-
-            @Override
-            public void onGameStarted() {
-                // ignored
-            }
-
-            @Override
-            public void onGameEnded() {
-                // ignored
-            }
-
-            @Override
-            public void onStateChanged(GameState state) {
-                // ignored
-            }
-
-            @Override
-            public void onTilePlaced(Tile tile) {
-                // ignored
-            }
-
-            @Override
-            public void onTileRotated(Tile tile) {
-                // ignored
-            }
-
-            @Override
-            public void onMeeplePlaced(Chunk chunk, Meeple meeple) {
-                // ignored
-            }
-
-            @Override
-            public void onMeepleRemoved(Chunk chunk, Meeple meeple) {
-                // ignored
-            }
-
-            @Override
-            public void onFairySpawned(Fairy fairy) {
-                // ignored
-            }
-
-            @Override
-            public void onFairyDeath(Fairy fairy) {
-                // ignored
-            }
-
-            @Override
-            public void onDragonSpawned(Dragon dragon) {
-                // ignored
-            }
-
-            @Override
-            public void onDragonDeath(Dragon dragon) {
-                // ignored
-            }
-
-            @Override
-            public void onDragonMove(Dragon dragon) {
-                // ignored
-            }
-
-            @Override
-            public void onScoreEarned(Player player, int score) {
-                // ignored
-            }
-
-            @Override
-            public void onCommandExecuted(ICommand command) {
-                // ignored
-            }
-
-            @Override
-            public void onCommandFailed(ICommand command, int errorCode) {
-                // ignored
-            }
-        };
+        this.listener = EMPTY_LISTENER;
     }
 
     public void start() {
@@ -233,6 +274,28 @@ public class Game {
         return stack;
     }
 
+    /**
+     * Gets the 64-bit Zobrist hash of the game state.
+     * It covers the tiles, meeples, fairy and dragon of the board, the current state and the tile drawn.
+     * The board part is maintained incrementally, so the hash is cheap to get after each move.
+     *
+     * @return the hash of the game state
+     */
+    public long stateHash() {
+        long hash = board.getStateHash();
+
+        if (state != null) {
+            hash ^= ZobristKeys.state(state.getType().ordinal());
+
+            if (state instanceof GameTurnPlaceTileState placeTileState && placeTileState.getTileDrawn() != null) {
+                Tile tileDrawn = placeTileState.getTileDrawn();
+                hash ^= ZobristKeys.tileDrawn(config.getTileIndex(tileDrawn.getConfig()), tileDrawn.getRotation().ordinal());
+            }
+        }
+
+        return hash;
+    }
+
     /**
      * Gets the current state of the game.
      *
@@ -248,6 +311,11 @@ public class Game {
      * @param state The state to set.
      */
     public void setState(GameState state) {
+        if (journal.isRecording()) {
+            GameState previousState = this.state;
+            journal.record(() -> this.state = previousState);
+        }
+
         this.state = state;
         state.init();
 
@@ -360,6 +428,7 @@ public class Game {
      * Increases the turn counter.
      */
     public void increaseTurnCount() {
+        journal.record(() -> turnCount--);
         turnCount++;
     }
 
@@ -384,6 +453,71 @@ public class Game {
         return false;
     }
 
+    /**
+     * Makes the given move on the game.
+     * The command is executed as with {@link #executeCommand(ICommand)}, but without notifying
+     * the listeners, and all the changes are recorded so the move can be unmade with {@link #unmakeMove()}.
+     *
+     * @param command The command to execute.
+     * @return true if the move was made, false if the command cannot be executed.
+     */
+    public boolean makeMove(ICommand command) {
+        if (makingMove) {
+            throw new IllegalStateException("Cannot make a move while another move is being made.");
+        }
+
+        if (state == null || command.getRequiredState() != state.getType() || command.canBeExecuted(this) != ICommand.ERROR_SUCCESS) {
+            return false;
+        }
+
+        IGameListener originalListener = listener;
+
+        journal.beginMove();
+        makingMove = true;
+        listener = EMPTY_LISTENER;
+
+        try {
+            command.execute(this);
+        } catch (RuntimeException e) {
+            journal.rollbackMove();
+            throw e;
+        } finally {
+            listener = originalListener;
+            makingMove = false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Unmakes the last move made with {@link #makeMove(ICommand)}.
+     * The game is restored to its exact state before the move, including the area merges and the scores.
+     *
+     * @throws IllegalStateException if there is no move to unmake.
+     */
+    public void unmakeMove() {
+        journal.rollbackMove();
+    }
+
+    /**
+     * Gets the journal of the changes made by the moves.
+     *
+     * @return the game journal
+     */
+    public GameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Gets the listener of the current turn executor.
+     * While a move is made, the player is not notified.
+     *
+     * @return the listener of the turn executor
+     */
+    public IPlayerListener getTurnExecutorListener() {
+        return makingMove ? EMPTY_PLAYER_LISTENER : getTurnExecutor().getListener();
+    }
+
     /**
      * Gets the executor of the current turn.
      *
@@ -472,18 +606,100 @@ public class Game {
         }
     }
 
+    /**
+     * Encodes the changes of the game since the given earlier state of the same game.
+     * The players are encoded whole, as they only hold a few values, and the board only with its changes.
+     *
+     * @param from      the earlier state of the game
+     * @param stream    the output stream
+     * @param withState if the current game state is encoded too
+     */
+    public void encodeDelta(Game from, ByteOutputStream stream, boolean withState) {
+        stream.writeInt(turnCount);
+        stream.writeInt(players.size());
+
+        for (Player player : players) {
+            player.encode(stream);
+        }
+
+        board.encodeDelta(from.board, stream);
+
+        if (withState && state != null) {
+            stream.writeBoolean(true);
+            stream.writeInt(state.getType().ordinal());
+            state.encode(stream);
+        } else {
+            stream.writeBoolean(false);
+        }
+    }
+
+    /**
+     * Decodes the changes of the game encoded by {@link #encodeDelta(Game, ByteOutputStream, boolean)}.
+     * The game must be in the earlier state the changes were encoded from.
+     *
+     * @param stream the input stream
+     * @throws IllegalStateException if the number of players does not match.
+     */
+    public void decodeDelta(ByteInputStream stream) {
+        turnCount = stream.readInt();
+
+        int playerCount = stream.readInt();
+
+        if (playerCount != players.size()) {
+            throw new IllegalStateException("Player count does not match with the number of players in the stream.");
+        }
+
+        for (Player player : players) {
+            player.decode(stream);
+        }
+
+        board.decodeDelta(stream);
+
+        if (stream.readBoolean()) {
+            state = GameStateFactory.createByType(GameStateType.values()[stream.readInt()], this);
+            state.decode(stream);
+
+            if (state.getType() == GameStateType.START) {
+                state.init();
+            }
+        }
+    }
+
     /**
      * Clones the current game.
+     * Only the mutable state is copied, the tile configurations are shared and the tiles are not placed again.
+     * The current game is only read, so it can be cloned from several threads at once as long as it is not modified.
      *
      * @return the cloned game
      */
     public Game clone() {
-        ByteOutputStream encodeStream = new ByteOutputStream(1000);
-        encode(encodeStream, master);
         Game gameNew = new Game(config);
-        ByteInputStream decodeStream = new ByteInputStream(encodeStream.getBytes(), encodeStream.getLength());
-        gameNew.decode(decodeStream, master);
-        assert decodeStream.getBytesLeft() == 0;
+        IdentityHashMap<Player, Player> clonedPlayers = new IdentityHashMap<>(players.size());
+
+        gameNew.turnCount = turnCount;
+        gameNew.master = master;
+
+        for (Player player : players) {
+            Player clonedPlayer = new Player();
+            clonedPlayer.copyFrom(player);
+            gameNew.addPlayer(clonedPlayer);
+            clonedPlayers.put(player, clonedPlayer);
+        }
+
+        if (state != null) {
+            gameNew.board.copyFrom(board, clonedPlayers);
+
+            if (master) {
+                gameNew.stack.copyFrom(stack);
+            }
+
+            gameNew.state = state.copy(gameNew, clonedPlayers);
+
+            if (gameNew.state.getType() == GameStateType.START) {
+                gameNew.state.init();
+            }
+        }
+
         return gameNew;
     }
 }
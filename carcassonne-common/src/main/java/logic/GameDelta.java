@@ -0,0 +1,162 @@
+package logic;
+
+import stream.ByteInputStream;
+import stream.ByteOutputStream;
+import stream.ByteStreamHelper;
+import stream.StreamVersion;
+
+/**
+ * Changes of a game between two turns, encoded by {@link Game#encodeDelta(Game, ByteOutputStream, boolean)}.
+ * A game in the state of the first turn catches up with the second one by applying it, without a full snapshot.
+ */
+public class GameDelta {
+    private int fromTurn;
+    private int toTurn;
+
+    /**
+     * State hash of the board the delta starts from.
+     */
+    private long fromHash;
+
+    /**
+     * Serialized changes of the game.
+     */
+    private byte[] data;
+
+    /**
+     * Encoding version of the serialized changes.
+     */
+    private int dataVersion;
+
+    public GameDelta() {
+        // ignored
+    }
+
+    public GameDelta(int fromTurn, long fromHash, int toTurn, byte[] data) {
+        this(fromTurn, fromHash, toTurn, data, StreamVersion.LEGACY);
+    }
+
+    public GameDelta(int fromTurn, long fromHash, int toTurn, byte[] data, int dataVersion) {
+        this.fromTurn = fromTurn;
+        this.fromHash = fromHash;
+        this.toTurn = toTurn;
+        this.data = data;
+        this.dataVersion = dataVersion;
+    }
+
+    /**
+     * Creates the delta between two states of the same game.
+     *
+     * @param from      the earlier state of the game
+     * @param to        the later state of the game
+     * @param withState if the game state of the later game is included
+     * @return the delta
+     */
+    public static GameDelta create(Game from, Game to, boolean withState) {
+        return create(from, to, withState, StreamVersion.LEGACY);
+    }
+
+    /**
+     * Creates the delta between two states of the same game, encoded with the given version.
+     *
+     * @param from      the earlier state of the game
+     * @param to        the later state of the game
+     * @param withState if the game state of the later game is included
+     * @param version   the {@link StreamVersion} of the encoded changes
+     * @return the delta
+     */
+    public static GameDelta create(Game from, Game to, boolean withState, int version) {
+        ByteOutputStream stream = new ByteOutputStream(256, version);
+        to.encodeDelta(from, stream, withState);
+        return new GameDelta(from.getTurnCount(), from.getBoard().getStateHash(), to.getTurnCount(), stream.toByteArray(), version);
+    }
+
+    /**
+     * Applies the delta to the given game.
+     *
+     * @param game the game, in the state of the first turn of the delta
+     * @throws IllegalStateException if the game is not at the first turn of the delta, or if its board differs.
+     */
+    public void applyTo(Game game) {
+        if (game.getTurnCount() != fromTurn) {
+            throw new IllegalStateException("Cannot apply the delta from turn %d to a game at turn %d.".formatted(fromTurn, game.getTurnCount()));
+        }
+
+        if (game.getBoard().getStateHash() != fromHash) {
+            throw new IllegalStateException("Cannot apply the delta from turn %d to a game with another board.".formatted(fromTurn));
+        }
+
+        game.decodeDelta(new ByteInputStream(data, data.length, dataVersion));
+    }
+
+    /**
+     * Gets the turn the delta starts from.
+     *
+     * @return the first turn
+     */
+    public int getFromTurn() {
+        return fromTurn;
+    }
+
+    /**
+     * Gets the state hash of the board the delta starts from.
+     *
+     * @return the hash of the first board
+     */
+    public long getFromHash() {
+        return fromHash;
+    }
+
+    /**
+     * Gets the turn the delta leads to.
+     *
+     * @return the last turn
+     */
+    public int getToTurn() {
+        return toTurn;
+    }
+
+    /**
+     * Gets the serialized changes of the game.
+     *
+     * @return the serialized changes
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Gets the encoding version of the serialized changes.
+     *
+     * @return the {@link StreamVersion} of the changes
+     */
+    public int getDataVersion() {
+        return dataVersion;
+    }
+
+    /**
+     * Encodes the delta into the given output stream.
+     *
+     * @param stream the output stream
+     */
+    public void encode(ByteOutputStream stream) {
+        stream.writeInt(fromTurn);
+        stream.writeLong(fromHash);
+        stream.writeInt(toTurn);
+        ByteStreamHelper.encodeDataVersion(stream, dataVersion);
+        stream.writeBytes(data);
+    }
+
+    /**
+     * Decodes the delta from the given input stream.
+     *
+     * @param stream the input stream
+     */
+    public void decode(ByteInputStream stream) {
+        fromTurn = stream.readInt();
+        fromHash = stream.readLong();
+        toTurn = stream.readInt();
+        dataVersion = ByteStreamHelper.decodeDataVersion(stream);
+        data = stream.readBytes();
+    }
+}
@@ -0,0 +1,83 @@
+package logic;
+
+import java.util.ArrayList;
+
+/**
+ * Journal of the changes made to a game while moves are made with {@link Game#makeMove}.
+ * Each change records how to undo it, so the moves can be unmade in the reverse order.
+ */
+public class GameJournal {
+    /**
+     * Undo actions of the recorded changes, in the order they were made.
+     */
+    private final ArrayList<Runnable> undoActions;
+
+    /**
+     * Positions of the journal at the beginning of each move.
+     */
+    private final ArrayList<Integer> moveMarks;
+
+    private boolean rollingBack;
+
+    public GameJournal() {
+        this.undoActions = new ArrayList<>();
+        this.moveMarks = new ArrayList<>();
+    }
+
+    /**
+     * Returns whether the changes must be recorded.
+     *
+     * @return true if a move is being made, false otherwise
+     */
+    public boolean isRecording() {
+        return !moveMarks.isEmpty() && !rollingBack;
+    }
+
+    /**
+     * Records a change.
+     *
+     * @param undoAction the action that undoes the change
+     */
+    public void record(Runnable undoAction) {
+        if (isRecording()) {
+            undoActions.add(undoAction);
+        }
+    }
+
+    /**
+     * Gets the number of moves that can be unmade.
+     *
+     * @return the number of moves
+     */
+    public int getMoveCount() {
+        return moveMarks.size();
+    }
+
+    /**
+     * Begins a move, the following changes are recorded.
+     */
+    void beginMove() {
+        moveMarks.add(undoActions.size());
+    }
+
+    /**
+     * Undoes all the changes recorded since the beginning of the last move.
+     */
+    void rollbackMove() {
+        if (moveMarks.isEmpty()) {
+            throw new IllegalStateException("There is no move to unmake.");
+        }
+
+        int mark = moveMarks.get(moveMarks.size() - 1);
+        rollingBack = true;
+
+        try {
+            for (int i = undoActions.size() - 1; i >= mark; i--) {
+                undoActions.remove(i).run();
+            }
+        } finally {
+            rollingBack = false;
+            moveMarks.remove(moveMarks.size() - 1);
+        }
+    }
+}
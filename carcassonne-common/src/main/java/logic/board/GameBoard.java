@@ -1,16 +1,21 @@
 package logic.board;
 
 import logic.Game;
+import logic.config.excel.TileConfig;
 import logic.dragon.Dragon;
 import logic.dragon.Fairy;
 import logic.math.Vector2;
+import logic.meeple.Meeple;
+import logic.player.Player;
 import logic.tile.Direction;
 import logic.tile.Tile;
 import logic.tile.TileFlags;
 import logic.tile.TileRotation;
 import logic.tile.area.Area;
+import logic.tile.area.AreaRegistry;
 import logic.tile.chunk.Chunk;
 import logic.tile.chunk.ChunkId;
+import logic.tile.chunk.ChunkType;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
 import stream.ByteStreamHelper;
@@ -27,9 +32,9 @@ public class GameBoard {
     public static final Vector2 STARTING_TILE_POSITION = new Vector2(0, 0);
 
     /**
-     * Collection of all the tiles on the board.
+     * Collection of all the tiles on the board, by position.
      */
-    private final HashMap<Vector2, Tile> tiles;
+    private final TileMap tiles;
 
     /**
      * To decode the areas properly, we need to encode and decode the tiles
@@ -39,11 +44,62 @@ public class GameBoard {
      */
     private final ArrayList<Tile> tilesList;
 
+    /**
+     * Areas touched since the last closure update.
+     * Only these areas can have changed their closure state, so the
+     * closure check does not need to walk every area of the board.
+     */
+    private final LinkedHashSet<Area> dirtyAreas;
+
+    /**
+     * Closed areas waiting for their closing evaluation, in closure order.
+     * The end of turn only drains this queue instead of walking every area of the board.
+     */
+    private final ArrayDeque<Area> pendingClosingAreas;
+
+    /**
+     * Empty positions next to at least one tile.
+     * Only these positions can receive a new tile, so the legal position
+     * queries do not need to walk the whole board.
+     */
+    private final LinkedHashSet<Vector2> freePositions;
+
+    /**
+     * Tile configurations that can be placed on each free position with at least one rotation,
+     * as bit sets of configuration indexes.
+     */
+    private final HashMap<Vector2, long[]> placeableConfigs;
+
+    /**
+     * Number of free positions on which each tile configuration can be placed, by configuration index.
+     */
+    private final int[] placeableCounts;
+
+    /**
+     * Number of tiles placed with each flag, by flag ordinal.
+     */
+    private final int[] flagTileCounts;
+
+    /**
+     * Chunks of the board holding a meeple, by meeple owner.
+     */
+    private final HashMap<Player, LinkedHashSet<Chunk>> meepleChunks;
+
+    /**
+     * Disjoint-set of the areas placed on the board.
+     */
+    private final AreaRegistry areaRegistry;
+
     /**
      * The game this board belongs to.
      */
     private final Game game;
 
+    /**
+     * Zobrist hash of the tiles, meeples, fairy and dragon of the board.
+     */
+    private long stateHash;
+
     /**
      * Current dragon that is on the board.
      * Null if there is no dragon on the board.
@@ -57,8 +113,25 @@ public class GameBoard {
 
     public GameBoard(Game game) {
         this.game = game;
-        this.tiles = new HashMap<>();
+        this.tiles = new TileMap();
         this.tilesList = new ArrayList<>();
+        this.dirtyAreas = new LinkedHashSet<>();
+        this.pendingClosingAreas = new ArrayDeque<>();
+        this.freePositions = new LinkedHashSet<>();
+        this.placeableConfigs = new HashMap<>();
+        this.placeableCounts = new int[game.getConfig().getTiles().size()];
+        this.flagTileCounts = new int[TileFlags.values().length];
+        this.meepleChunks = new HashMap<>();
+        this.areaRegistry = new AreaRegistry(game.getJournal());
+    }
+
+    /**
+     * Gets the game this board belongs to.
+     *
+     * @return the game of the board
+     */
+    public Game getGame() {
+        return game;
     }
 
     /**
@@ -67,8 +140,17 @@ public class GameBoard {
     public void clear() {
         this.tiles.clear();
         this.tilesList.clear();
+        this.dirtyAreas.clear();
+        this.pendingClosingAreas.clear();
+        this.freePositions.clear();
+        this.placeableConfigs.clear();
+        Arrays.fill(this.placeableCounts, 0);
+        Arrays.fill(this.flagTileCounts, 0);
+        this.meepleChunks.clear();
+        this.areaRegistry.clear();
         this.dragon = null;
         this.fairy = null;
+        this.stateHash = 0;
     }
 
     /**
@@ -87,14 +169,226 @@ public class GameBoard {
             throw new IllegalArgumentException("Try to place a tile on another.");
         }
 
-        tiles.put(tile.getPosition(), tile);
+        tiles.put(tile.getPosition().x(), tile.getPosition().y(), tile);
         tilesList.add(tile);
+        stateHash ^= getTileKey(tile);
+        updateFlagTileCounts(tile, 1);
+        updateFreePositions(tile.getPosition());
+        updatePlaceableConfigs(tile.getPosition());
+        game.getJournal().record(() -> unplace(tile));
+        areaRegistry.onTilePlaced(tile);
+        indexMeeples(tile);
 
         tile.onBoard();
+        markSurroundingAbbeysDirty(tile.getPosition());
 
         updateAreaClosures();
     }
 
+    /**
+     * Loads the given tiles on the board, in their placement order.
+     * Unlike {@link #place(Tile)}, the placeable configurations are computed once all tiles are in,
+     * no dragon is spawned and the area closures are not checked, since they are restored by the caller.
+     *
+     * @param tilesToLoad the tiles to load, in their placement order
+     * @throws IllegalArgumentException if a tile has no position or two tiles have the same position.
+     */
+    private void load(List<Tile> tilesToLoad) {
+        LinkedHashSet<Vector2> changedPositions = new LinkedHashSet<>();
+
+        for (Tile tile : tilesToLoad) {
+            if (tile.getPosition() == null) {
+                throw new IllegalArgumentException("Try to place a tile without position.");
+            }
+
+            if (hasTileAt(tile.getPosition())) {
+                throw new IllegalArgumentException("Try to place a tile on another.");
+            }
+
+            tiles.put(tile.getPosition().x(), tile.getPosition().y(), tile);
+            tilesList.add(tile);
+            stateHash ^= getTileKey(tile);
+            updateFlagTileCounts(tile, 1);
+            updateFreePositions(tile.getPosition());
+            areaRegistry.onTilePlaced(tile);
+            indexMeeples(tile);
+            tile.mergeAreas();
+
+            changedPositions.add(tile.getPosition());
+
+            for (Direction edge : Direction.getValues()) {
+                changedPositions.add(tile.getPosition().add(edge.value()));
+            }
+        }
+
+        dirtyAreas.clear();
+
+        for (Vector2 position : changedPositions) {
+            updatePlaceableConfigsAt(position);
+        }
+    }
+
+    /**
+     * Removes the last tile placed on the board, when its placement is unmade.
+     * The areas of the tile are restored separately by the game journal.
+     *
+     * @param tile the last tile placed
+     */
+    private void unplace(Tile tile) {
+        Vector2 position = tile.getPosition();
+
+        tiles.remove(position.x(), position.y());
+        tilesList.remove(tilesList.size() - 1);
+        stateHash ^= getTileKey(tile);
+        updateFlagTileCounts(tile, -1);
+
+        for (ChunkId chunkId : ChunkId.getValues()) {
+            Chunk chunk = tile.getChunk(chunkId);
+
+            if (chunk.hasMeeple()) {
+                onMeepleRemoved(chunk, chunk.getMeeple());
+            }
+        }
+
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+            Vector2 neighbor = position.add(offset);
+
+            if (!hasNeighborTile(neighbor)) {
+                freePositions.remove(neighbor);
+            }
+        }
+
+        /* Without other tile around, the position is not part of the frontier anymore, as on an empty board. */
+        if (hasNeighborTile(position)) {
+            freePositions.add(position);
+        }
+
+        updatePlaceableConfigs(position);
+    }
+
+    /**
+     * Updates the number of tiles placed with each flag of the given tile.
+     *
+     * @param tile  the tile placed or removed
+     * @param delta the change of the counts
+     */
+    private void updateFlagTileCounts(Tile tile, int delta) {
+        for (TileFlags flag : tile.getConfig().getFlags()) {
+            flagTileCounts[flag.ordinal()] += delta;
+        }
+    }
+
+    /**
+     * Determines if the given empty position still touches a tile.
+     *
+     * @param position the position to check
+     * @return true if there is a tile next to the position, false otherwise
+     */
+    private boolean hasNeighborTile(Vector2 position) {
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+
+            if (hasTileAt(position.x() + offset.x(), position.y() + offset.y())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Indexes the meeples already on the chunks of the given tile.
+     *
+     * @param tile the tile placed
+     */
+    private void indexMeeples(Tile tile) {
+        for (ChunkId chunkId : ChunkId.getValues()) {
+            Chunk chunk = tile.getChunk(chunkId);
+
+            if (chunk.hasMeeple()) {
+                onMeeplePlaced(chunk);
+            }
+        }
+    }
+
+    /**
+     * Called when a meeple is placed on a chunk of the board.
+     *
+     * @param chunk the chunk holding the meeple
+     */
+    public void onMeeplePlaced(Chunk chunk) {
+        stateHash ^= getMeepleKey(chunk, chunk.getMeeple());
+        meepleChunks.computeIfAbsent(chunk.getMeeple().getOwner(), player -> new LinkedHashSet<>()).add(chunk);
+    }
+
+    /**
+     * Called when a meeple is removed from a chunk of the board.
+     *
+     * @param chunk  the chunk that held the meeple
+     * @param meeple the meeple removed
+     */
+    public void onMeepleRemoved(Chunk chunk, Meeple meeple) {
+        Set<Chunk> chunks = meepleChunks.get(meeple.getOwner());
+
+        if (chunks != null && chunks.remove(chunk)) {
+            stateHash ^= getMeepleKey(chunk, meeple);
+        }
+    }
+
+    /**
+     * Gets the chunks of the board holding a meeple of the given player.
+     *
+     * @param player the meeple owner
+     * @return the chunks holding a meeple of the player
+     */
+    public Set<Chunk> getMeepleChunks(Player player) {
+        Set<Chunk> chunks = meepleChunks.get(player);
+        return chunks != null ? Collections.unmodifiableSet(chunks) : Set.of();
+    }
+
+    /**
+     * Gets the chunks of the board holding a meeple, grouped by meeple owner.
+     *
+     * @return the chunks holding a meeple, for each player having meeples on the board
+     */
+    public Collection<Set<Chunk>> getMeepleChunks() {
+        return Collections.unmodifiableCollection(meepleChunks.values());
+    }
+
+    /**
+     * Marks the given area as touched by the last placement.
+     * Its closure will be checked on the next closure update.
+     *
+     * @param area the area to mark
+     */
+    public void markAreaDirty(Area area) {
+        dirtyAreas.add(area.getRoot());
+    }
+
+    /**
+     * Marks the abbeys around the given position as touched.
+     * An abbey is closed by its 8 surrounding tiles, so a placement can
+     * change its closure state without merging with it.
+     *
+     * @param position the position of the placed tile
+     */
+    private void markSurroundingAbbeysDirty(Vector2 position) {
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                Tile neighbor = getTileAt(position.x() + i, position.y() + j);
+
+                if (neighbor != null) {
+                    Area area = neighbor.getChunk(ChunkId.CENTER_MIDDLE).getArea();
+
+                    if (area.getType() == ChunkType.ABBEY) {
+                        dirtyAreas.add(area);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Gets the tile at the specified position.
      *
@@ -102,7 +396,77 @@ public class GameBoard {
      * @return the tile at the specified position
      */
     public Tile getTileAt(Vector2 position) {
-        return tiles.getOrDefault(position, null);
+        return tiles.get(position.x(), position.y());
+    }
+
+    /**
+     * Gets the tile at the specified position.
+     *
+     * @param x the x position of the tile
+     * @param y the y position of the tile
+     * @return the tile at the specified position
+     */
+    public Tile getTileAt(int x, int y) {
+        return tiles.get(x, y);
+    }
+
+    /**
+     * Visits the tiles next to the given position.
+     * The traversal uses shared tables and does not allocate.
+     *
+     * @param x       the x position
+     * @param y       the y position
+     * @param visitor the visitor called for each neighbour tile
+     */
+    public void forEachNeighbour(int x, int y, INeighbourVisitor visitor) {
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+            Tile neighbour = getTileAt(x + offset.x(), y + offset.y());
+
+            if (neighbour != null) {
+                visitor.visit(edge, neighbour);
+            }
+        }
+    }
+
+    /**
+     * Visits the chunks of the given tile along the given edge.
+     *
+     * @param tile    the tile
+     * @param edge    the edge of the tile
+     * @param visitor the visitor called for each chunk of the edge
+     */
+    public void forEachEdgeChunk(Tile tile, Direction edge, IChunkVisitor visitor) {
+        for (ChunkId chunkId : edge.getChunkIds()) {
+            visitor.visit(tile.getChunk(chunkId));
+        }
+    }
+
+    /**
+     * Visits the chunks of the neighbour tiles facing the given position.
+     * For each neighbour, the chunks are visited with the id of the chunk touching them on the position,
+     * which is how the areas of a tile placed at the position connect to the board.
+     *
+     * @param x       the x position
+     * @param y       the y position
+     * @param visitor the visitor called for each opposite chunk
+     */
+    public void forEachOppositeChunk(int x, int y, IOppositeChunkVisitor visitor) {
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+            Tile neighbour = getTileAt(x + offset.x(), y + offset.y());
+
+            if (neighbour == null) {
+                continue;
+            }
+
+            ChunkId[] chunkIds = edge.getChunkIds();
+            ChunkId[] oppositeChunkIds = edge.getOppositeChunkIds();
+
+            for (int i = 0; i < chunkIds.length; i++) {
+                visitor.visit(edge, chunkIds[i], neighbour.getChunk(oppositeChunkIds[i]));
+            }
+        }
     }
 
     /**
@@ -111,7 +475,7 @@ public class GameBoard {
      * @return the starting tile
      */
     public Tile getStartingTile() {
-        return tiles.getOrDefault(STARTING_TILE_POSITION, null);
+        return getTileAt(STARTING_TILE_POSITION);
     }
 
     /**
@@ -130,7 +494,18 @@ public class GameBoard {
      * @return true if the board has a tile at the specified position, false otherwise
      */
     public boolean hasTileAt(Vector2 position) {
-        return tiles.containsKey(position);
+        return tiles.get(position.x(), position.y()) != null;
+    }
+
+    /**
+     * Checks if the board has a tile at the specified position.
+     *
+     * @param x the x position to check
+     * @param y the y position to check
+     * @return true if the board has a tile at the specified position, false otherwise
+     */
+    public boolean hasTileAt(int x, int y) {
+        return tiles.get(x, y) != null;
     }
 
     /**
@@ -160,15 +535,17 @@ public class GameBoard {
         } else if (tileToPlace.hasFlag(TileFlags.STARTING)) {
             return false;
         } else {
-            TileRotation originalRotation = tileToPlace.getRotation();
+            int configIndex = game.getConfig().getTileIndex(tileToPlace.getConfig());
 
-            for (int i = 0; i < TileRotation.NUM_ROTATIONS; i++) {
-                tileToPlace.rotate();
+            if (configIndex != -1) {
+                return placeableCounts[configIndex] > 0;
+            }
 
-                if (hasFreePlaceForTileFromNode(startingTile, tileToPlace, new HashSet<>())) {
-                    // Restores the original rotation of the tile.
-                    tileToPlace.setRotation(originalRotation);
-                    return true;
+            for (Vector2 freePosition : freePositions) {
+                for (TileRotation rotation : TileRotation.values()) {
+                    if (tileToPlace.canBePlacedAt(freePosition, rotation)) {
+                        return true;
+                    }
                 }
             }
 
@@ -177,35 +554,108 @@ public class GameBoard {
     }
 
     /**
-     * Determines if the board has a free place for the specified tile from the specified node.
+     * Gets the number of free positions on which the given tile configuration can be placed.
      *
-     * @param node        the node to start from
-     * @param tileToPlace the tile to place
-     * @param parentNodes the nodes that have already been visited
-     * @return true if the board has a free place for the specified tile from the specified node, false otherwise
+     * @param config the tile configuration
+     * @return the number of free positions fitting the configuration with at least one rotation
+     */
+    public int getPlaceablePositionCount(TileConfig config) {
+        int configIndex = game.getConfig().getTileIndex(config);
+        return configIndex != -1 ? placeableCounts[configIndex] : 0;
+    }
+
+    /**
+     * Updates the configurations placeable on the given position and around it,
+     * the only free positions whose neighbours changed.
+     *
+     * @param position the position of the tile placed or removed
+     */
+    private void updatePlaceableConfigs(Vector2 position) {
+        updatePlaceableConfigsAt(position);
+
+        for (Direction edge : Direction.getValues()) {
+            updatePlaceableConfigsAt(position.add(edge.value()));
+        }
+    }
+
+    /**
+     * Updates the configurations placeable on the given position.
+     *
+     * @param position the position to update
      */
-    private boolean hasFreePlaceForTileFromNode(Tile node, Tile tileToPlace, HashSet<Tile> parentNodes) {
-        Vector2 tilePosition = node.getPosition();
+    private void updatePlaceableConfigsAt(Vector2 position) {
+        long[] previous = placeableConfigs.remove(position);
+        long[] current = freePositions.contains(position) ? findPlaceableConfigs(position) : null;
+        List<TileConfig> configs = game.getConfig().getTiles();
+
+        for (int i = 0; i < configs.size(); i++) {
+            long bit = 1L << (i & 63);
+            boolean wasPlaceable = previous != null && (previous[i >> 6] & bit) != 0;
+            boolean isPlaceable = current != null && (current[i >> 6] & bit) != 0;
+
+            if (wasPlaceable != isPlaceable) {
+                placeableCounts[i] += isPlaceable ? 1 : -1;
+            }
+        }
 
-        for (Direction edge : Direction.values()) {
-            Vector2 edgePos = tilePosition.add(edge.value());
+        if (current != null) {
+            placeableConfigs.put(position, current);
+        }
+    }
 
-            if (hasTileAt(edgePos)) {
-                Tile subNode = getTileAt(edgePos);
+    /**
+     * Finds the configurations that can be placed on the given free position with at least one rotation.
+     *
+     * @param position the free position
+     * @return the bit set of configuration indexes
+     */
+    private long[] findPlaceableConfigs(Vector2 position) {
+        List<TileConfig> configs = game.getConfig().getTiles();
+        long[] placeable = new long[(configs.size() + 63) >> 6];
+        int[] neighborSignatures = new int[Direction.NUM_DIRECTIONS];
+        boolean[] hasNeighbor = new boolean[Direction.NUM_DIRECTIONS];
+
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+            Tile neighbor = getTileAt(position.x() + offset.x(), position.y() + offset.y());
+
+            if (neighbor != null) {
+                hasNeighbor[edge.ordinal()] = true;
+                neighborSignatures[edge.ordinal()] = neighbor.getEdgeSignature(edge.negate());
+            }
+        }
 
-                if (!parentNodes.contains(subNode)) {
-                    parentNodes.add(subNode);
+        for (int i = 0; i < configs.size(); i++) {
+            TileConfig config = configs.get(i);
 
-                    if (hasFreePlaceForTileFromNode(subNode, tileToPlace, parentNodes)) {
-                        return true;
-                    }
+            for (TileRotation rotation : TileRotation.values()) {
+                if (fits(config, rotation, hasNeighbor, neighborSignatures)) {
+                    placeable[i >> 6] |= 1L << (i & 63);
+                    break;
                 }
-            } else if (tileToPlace.canBePlacedAt(edgePos)) {
-                return true;
             }
         }
 
-        return false;
+        return placeable;
+    }
+
+    /**
+     * Checks whether the configuration with the given rotation matches the neighbour edges.
+     *
+     * @param config             the tile configuration
+     * @param rotation           the rotation of the tile
+     * @param hasNeighbor        whether there is a neighbour, by direction
+     * @param neighborSignatures the signatures of the neighbour edges facing the position, by direction
+     * @return true if all the edges match, false otherwise
+     */
+    private static boolean fits(TileConfig config, TileRotation rotation, boolean[] hasNeighbor, int[] neighborSignatures) {
+        for (Direction edge : Direction.getValues()) {
+            if (hasNeighbor[edge.ordinal()] && config.getEdgeSignature(rotation, edge) != neighborSignatures[edge.ordinal()]) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -219,7 +669,7 @@ public class GameBoard {
             throw new IllegalArgumentException("Tile must be not null.");
         }
 
-        LinkedList<Vector2> freePoints = new LinkedList<>();
+        ArrayList<Vector2> freePoints = new ArrayList<>();
         Tile startingTile = getStartingTile();
 
         if (startingTile == null) {
@@ -227,46 +677,89 @@ public class GameBoard {
                 freePoints.add(STARTING_TILE_POSITION);
             }
         } else if (!tileToPlace.hasFlag(TileFlags.STARTING)) {
-            findFreePlaceForTileFromNode(startingTile, tileToPlace, new HashSet<>(), freePoints);
+            for (Vector2 freePosition : freePositions) {
+                if (tileToPlace.canBePlacedAt(freePosition)) {
+                    freePoints.add(freePosition);
+                }
+            }
         }
 
         return freePoints;
     }
 
     /**
-     * Finds all free places for the specified tile from the specified node.
+     * Gets the empty positions next to at least one tile of the board.
      *
-     * @param node        the node to start from
-     * @param tileToPlace the tile to place
-     * @param parentNodes the nodes that have already been visited
-     * @param freePoints  the list of free points to add to
+     * @return the free positions of the board
      */
-    private void findFreePlaceForTileFromNode(Tile node, Tile tileToPlace, HashSet<Tile> parentNodes, List<Vector2> freePoints) {
-        Vector2 tilePosition = node.getPosition();
+    public Set<Vector2> getFreePositions() {
+        return Collections.unmodifiableSet(freePositions);
+    }
 
-        for (Direction edge : Direction.values()) {
-            Vector2 edgePos = tilePosition.add(edge.value());
+    /**
+     * Updates the free positions around the specified placed tile position.
+     *
+     * @param position the position of the placed tile
+     */
+    private void updateFreePositions(Vector2 position) {
+        freePositions.remove(position);
 
-            if (hasTileAt(edgePos)) {
-                Tile subNode = getTileAt(edgePos);
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
 
-                if (!parentNodes.contains(subNode)) {
-                    parentNodes.add(subNode);
-                    findFreePlaceForTileFromNode(subNode, tileToPlace, parentNodes, freePoints);
-                }
-            } else if (tileToPlace.canBePlacedAt(edgePos)) {
-                freePoints.add(edgePos);
+            if (!hasTileAt(position.x() + offset.x(), position.y() + offset.y())) {
+                freePositions.add(position.add(offset));
             }
         }
     }
 
     /**
-     * Updates the area closure states.
+     * Updates the closure states of the areas touched since the last update.
      */
     protected void updateAreaClosures() {
-        for (Area area : getAreas()) {
+        for (Area area : dirtyAreas) {
             area.updateClosure();
         }
+
+        dirtyAreas.clear();
+    }
+
+    /**
+     * Called when an area of the board is closed, the area waits for its closing evaluation.
+     *
+     * @param area the closed area
+     */
+    public void onAreaClosed(Area area) {
+        pendingClosingAreas.addLast(area);
+        game.getJournal().record(pendingClosingAreas::removeLast);
+    }
+
+    /**
+     * Removes the next closed area waiting for its closing evaluation.
+     *
+     * @return the closed area, or null if no area is waiting
+     */
+    public Area pollPendingClosingArea() {
+        Area area = pendingClosingAreas.pollFirst();
+
+        if (area != null) {
+            game.getJournal().record(() -> pendingClosingAreas.addFirst(area));
+        }
+
+        return area;
+    }
+
+    /**
+     * Rebuilds the queue of the areas waiting for their closing evaluation from the area states.
+     */
+    private void rebuildPendingClosingAreas() {
+        pendingClosingAreas.clear();
+
+        for (Area area : getAreas()) {
+            if (area.isWaitingClosingEvaluation()) {
+                pendingClosingAreas.addLast(area);
+            }
+        }
     }
 
     /**
@@ -284,7 +777,32 @@ public class GameBoard {
      * @return the list of areas
      */
     public List<Area> getAreas() {
-        return tilesList.stream().flatMap(t -> Arrays.stream(ChunkId.values()).map(t::getChunk).map(Chunk::getArea)).distinct().toList();
+        return areaRegistry.getRoots();
+    }
+
+    /**
+     * Gets the area containing the area registered with the given id.
+     * The ids follow the registration order of the areas, so they are the same on every copy of the board.
+     *
+     * @param id the area id
+     * @return the area resulting from all the merges of the registered area
+     * @throws IllegalArgumentException if no area is registered with this id.
+     */
+    public Area getArea(int id) {
+        if (id < 0 || id >= areaRegistry.getCount()) {
+            throw new IllegalArgumentException("No area registered with id " + id + ".");
+        }
+
+        return areaRegistry.find(areaRegistry.getArea(id));
+    }
+
+    /**
+     * Gets the registry of the areas placed on the board.
+     *
+     * @return the area registry
+     */
+    public AreaRegistry getAreaRegistry() {
+        return areaRegistry;
     }
 
     /**
@@ -311,7 +829,17 @@ public class GameBoard {
      * @return true if the board has a volcano, false otherwise
      */
     public boolean hasVolcano() {
-        return tilesList.stream().anyMatch(Tile::hasVolcano);
+        return flagTileCounts[TileFlags.VOLCANO.ordinal()] != 0;
+    }
+
+    /**
+     * Gets the number of tiles placed on the board with the given flag.
+     *
+     * @param flag the flag to check
+     * @return the number of tiles with the flag
+     */
+    public int getTileCount(TileFlags flag) {
+        return flagTileCounts[flag.ordinal()];
     }
 
     /**
@@ -338,7 +866,7 @@ public class GameBoard {
     public void killDragon() {
         if (dragon != null) {
             game.getListener().onDragonDeath(dragon);
-            dragon = null;
+            setDragon(null);
         }
     }
 
@@ -348,7 +876,7 @@ public class GameBoard {
     public void killFairy() {
         if (fairy != null) {
             game.getListener().onFairyDeath(fairy);
-            fairy = null;
+            setFairy(null);
         }
     }
 
@@ -358,7 +886,7 @@ public class GameBoard {
      * @param position the position to spawn the dragon
      */
     public Dragon spawnDragon(Vector2 position) {
-        dragon = new Dragon(this, position);
+        setDragon(new Dragon(this, position));
         game.getListener().onDragonSpawned(dragon);
         return dragon;
     }
@@ -369,13 +897,190 @@ public class GameBoard {
      * @param chunk the chunk to spawn the fairy
      */
     public Fairy spawnFairy(Chunk chunk) {
-        fairy = new Fairy(this, chunk);
+        setFairy(new Fairy(this, chunk));
         game.getListener().onFairySpawned(fairy);
         return fairy;
     }
 
+    /**
+     * Replaces the dragon of the board.
+     *
+     * @param newDragon the new dragon, or null to remove it
+     */
+    private void setDragon(Dragon newDragon) {
+        Dragon previousDragon = dragon;
+        long key = getDragonKey(previousDragon) ^ getDragonKey(newDragon);
+
+        game.getJournal().record(() -> {
+            dragon = previousDragon;
+            stateHash ^= key;
+        });
+
+        dragon = newDragon;
+        stateHash ^= key;
+    }
+
+    /**
+     * Replaces the fairy of the board.
+     *
+     * @param newFairy the new fairy, or null to remove it
+     */
+    private void setFairy(Fairy newFairy) {
+        Fairy previousFairy = fairy;
+        long key = getFairyKey(previousFairy) ^ getFairyKey(newFairy);
+
+        game.getJournal().record(() -> {
+            fairy = previousFairy;
+            stateHash ^= key;
+        });
+
+        fairy = newFairy;
+        stateHash ^= key;
+    }
+
+    /**
+     * Called when a dragon moves to a new position, before its path is updated.
+     *
+     * @param movedDragon the dragon moving
+     * @param to          the new position of the dragon
+     */
+    public void onDragonMoved(Dragon movedDragon, Vector2 to) {
+        if (movedDragon != dragon) {
+            return;
+        }
+
+        Vector2 from = dragon.getPosition();
+        long key = ZobristKeys.dragon(from.x(), from.y()) ^ ZobristKeys.dragon(to.x(), to.y()) ^ ZobristKeys.dragonPath(to.x(), to.y());
+
+        game.getJournal().record(() -> stateHash ^= key);
+        stateHash ^= key;
+    }
+
+    /**
+     * Gets the Zobrist hash of the tiles, meeples, fairy and dragon of the board.
+     * The hash is maintained incrementally by the board changes.
+     *
+     * @return the hash of the board
+     */
+    public long getStateHash() {
+        return stateHash;
+    }
+
+    /**
+     * Computes the Zobrist hash of the board from scratch.
+     *
+     * @return the hash of the board
+     */
+    public long computeStateHash() {
+        long hash = getDragonKey(dragon) ^ getFairyKey(fairy);
+
+        for (Tile tile : tilesList) {
+            hash ^= getTileKey(tile);
+        }
+
+        for (Set<Chunk> chunks : meepleChunks.values()) {
+            for (Chunk chunk : chunks) {
+                hash ^= getMeepleKey(chunk, chunk.getMeeple());
+            }
+        }
+
+        return hash;
+    }
+
+    /**
+     * Gets the Zobrist key of the given placed tile.
+     *
+     * @param tile the tile
+     * @return the key of the tile
+     */
+    private long getTileKey(Tile tile) {
+        Vector2 position = tile.getPosition();
+        return ZobristKeys.tile(game.getConfig().getTileIndex(tile.getConfig()), position.x(), position.y(), tile.getRotation().ordinal());
+    }
+
+    /**
+     * Gets the Zobrist key of the given meeple.
+     *
+     * @param chunk  the chunk of the meeple
+     * @param meeple the meeple
+     * @return the key of the meeple
+     */
+    private static long getMeepleKey(Chunk chunk, Meeple meeple) {
+        Vector2 position = chunk.getParent().getPosition();
+        return ZobristKeys.meeple(position.x(), position.y(), chunk.getCurrentId().ordinal(), meeple.getOwner().getId());
+    }
+
+    /**
+     * Gets the Zobrist key of the given fairy.
+     *
+     * @param fairy the fairy, or null
+     * @return the key of the fairy, or 0 if there is no fairy
+     */
+    private static long getFairyKey(Fairy fairy) {
+        if (fairy == null) {
+            return 0;
+        }
+
+        Vector2 position = fairy.getTilePosition();
+        return ZobristKeys.fairy(position.x(), position.y(), fairy.getChunk().getCurrentId().ordinal());
+    }
+
+    /**
+     * Gets the Zobrist key of the given dragon, including its path.
+     *
+     * @param dragon the dragon, or null
+     * @return the key of the dragon, or 0 if there is no dragon
+     */
+    private static long getDragonKey(Dragon dragon) {
+        if (dragon == null) {
+            return 0;
+        }
+
+        Vector2 position = dragon.getPosition();
+        long key = ZobristKeys.dragon(position.x(), position.y());
+
+        for (Vector2 pathPosition : dragon.getPath()) {
+            key ^= ZobristKeys.dragonPath(pathPosition.x(), pathPosition.y());
+        }
+
+        return key;
+    }
+
+    /**
+     * Copies the specified board into this one.
+     * The tiles are copied without being placed again, so no placement or closure is checked.
+     *
+     * @param board   the board to copy
+     * @param players the copied players, by original player
+     */
+    public void copyFrom(GameBoard board, Map<Player, Player> players) {
+        clear();
+
+        for (Tile tile : board.tilesList) {
+            Tile copy = tile.copy(game, players);
+
+            tiles.put(copy.getPosition().x(), copy.getPosition().y(), copy);
+            tilesList.add(copy);
+        }
+
+        freePositions.addAll(board.freePositions);
+        placeableConfigs.putAll(board.placeableConfigs);
+        System.arraycopy(board.placeableCounts, 0, placeableCounts, 0, placeableCounts.length);
+        System.arraycopy(board.flagTileCounts, 0, flagTileCounts, 0, flagTileCounts.length);
+        areaRegistry.copyFrom(board.areaRegistry, this, players);
+
+        for (Tile tile : tilesList) {
+            indexMeeples(tile);
+        }
+        dragon = board.dragon != null ? board.dragon.copy(this) : null;
+        fairy = board.fairy != null ? board.fairy.copy(this) : null;
+        stateHash = board.stateHash;
+        rebuildPendingClosingAreas();
+    }
+
     /**
      * Encodes the board into the specified output stream.
+     * The state of each area is keyed by its id, so the areas can be decoded in any order.
      *
      * @param stream the output stream to encode to
      */
@@ -386,24 +1091,13 @@ public class GameBoard {
             ByteStreamHelper.encodeTile(stream, tile, game);
         }
 
-        if (dragon != null) {
-            stream.writeBoolean(true);
-            dragon.encode(stream);
-        } else {
-            stream.writeBoolean(false);
-        }
-
-        if (fairy != null) {
-            stream.writeBoolean(true);
-            fairy.encode(stream);
-        } else {
-            stream.writeBoolean(false);
-        }
+        encodeFigures(stream);
 
         List<Area> areas = getAreas();
         stream.writeInt(areas.size());
 
         for (Area area : areas) {
+            stream.writeInt(area.getId());
             area.encode(stream);
         }
     }
@@ -417,10 +1111,177 @@ public class GameBoard {
         clear();
 
         int tileCount = stream.readInt();
+        ArrayList<Tile> decodedTiles = new ArrayList<>(tileCount);
+
+        for (int i = 0; i < tileCount; i++) {
+            decodedTiles.add(ByteStreamHelper.decodeTile(stream, game));
+        }
+
+        load(decodedTiles);
+        decodeFigures(stream);
+        decodeAreas(stream);
+    }
+
+    /**
+     * Encodes the changes of the board since the given earlier state of the same board.
+     * Only the tiles placed since, the meeples placed or removed on the other tiles
+     * and the areas whose closure changed are written, along with the dragon and the fairy.
+     *
+     * @param from   the earlier state of the board
+     * @param stream the output stream to encode to
+     * @throws IllegalArgumentException if the given board has more tiles than this one.
+     */
+    public void encodeDelta(GameBoard from, ByteOutputStream stream) {
+        int fromTileCount = from.tilesList.size();
+
+        if (fromTileCount > tilesList.size()) {
+            throw new IllegalArgumentException("The given board is not an earlier state of the board.");
+        }
+
+        stream.writeInt(tilesList.size() - fromTileCount);
+
+        for (Tile tile : tilesList.subList(fromTileCount, tilesList.size())) {
+            ByteStreamHelper.encodeTile(stream, tile, game);
+        }
+
+        List<Chunk> changedChunks = findChangedMeepleChunks(from);
+        stream.writeInt(changedChunks.size());
+
+        for (Chunk chunk : changedChunks) {
+            ByteStreamHelper.encodeVector(stream, chunk.getParent().getPosition());
+            stream.writeInt(chunk.getCurrentId().ordinal());
+            chunk.encode(stream);
+        }
+
+        encodeFigures(stream);
+
+        List<Area> changedAreas = findChangedAreas(from);
+        stream.writeInt(changedAreas.size());
+
+        for (Area area : changedAreas) {
+            stream.writeInt(area.getId());
+            area.encode(stream);
+        }
+    }
+
+    /**
+     * Decodes the changes of the board encoded by {@link #encodeDelta(GameBoard, ByteOutputStream)}.
+     * The board must be in the earlier state the changes were encoded from.
+     *
+     * @param stream the input stream to decode from
+     * @throws IllegalStateException if a changed meeple is on a tile missing from the board.
+     */
+    public void decodeDelta(ByteInputStream stream) {
+        int tileCount = stream.readInt();
+        ArrayList<Tile> decodedTiles = new ArrayList<>(tileCount);
 
         for (int i = 0; i < tileCount; i++) {
-            place(ByteStreamHelper.decodeTile(stream, game));
+            decodedTiles.add(ByteStreamHelper.decodeTile(stream, game));
+        }
+
+        load(decodedTiles);
+
+        int chunkCount = stream.readInt();
+
+        for (int i = 0; i < chunkCount; i++) {
+            Vector2 position = ByteStreamHelper.decodeVector(stream);
+            ChunkId chunkId = ChunkId.getValues()[stream.readInt()];
+            Tile tile = getTileAt(position);
+
+            if (tile == null) {
+                throw new IllegalStateException("No tile at " + position + " for the meeple change.");
+            }
+
+            tile.getChunk(chunkId).decode(stream);
+        }
+
+        decodeFigures(stream);
+        decodeAreas(stream);
+    }
+
+    /**
+     * Finds the chunks of the tiles of the given earlier board whose meeple changed since.
+     *
+     * @param from the earlier state of the board
+     * @return the changed chunks of this board
+     */
+    private List<Chunk> findChangedMeepleChunks(GameBoard from) {
+        ArrayList<Chunk> changedChunks = new ArrayList<>();
+
+        /* The meeples removed or replaced since. */
+        for (Set<Chunk> chunks : from.getMeepleChunks()) {
+            for (Chunk previousChunk : chunks) {
+                Chunk chunk = getTileAt(previousChunk.getParent().getPosition()).getChunk(previousChunk.getCurrentId());
+
+                if (!chunk.hasMeeple() || chunk.getMeeple().getOwner().getId() != previousChunk.getMeeple().getOwner().getId()) {
+                    changedChunks.add(chunk);
+                }
+            }
+        }
+
+        /* The meeples placed since on a free chunk, the ones of the new tiles are encoded with their tile. */
+        for (Set<Chunk> chunks : getMeepleChunks()) {
+            for (Chunk chunk : chunks) {
+                Tile previousTile = from.getTileAt(chunk.getParent().getPosition());
+
+                if (previousTile != null && !previousTile.getChunk(chunk.getCurrentId()).hasMeeple()) {
+                    changedChunks.add(chunk);
+                }
+            }
+        }
+
+        return changedChunks;
+    }
+
+    /**
+     * Finds the areas whose closure changed since the given earlier board.
+     * The new areas are compared to an open area, as they are registered open when their tile is loaded.
+     *
+     * @param from the earlier state of the board
+     * @return the changed areas of this board
+     */
+    private List<Area> findChangedAreas(GameBoard from) {
+        ArrayList<Area> changedAreas = new ArrayList<>();
+
+        for (Area area : getAreas()) {
+            Area previousArea = area.getId() < from.areaRegistry.getCount() ? from.getArea(area.getId()) : null;
+
+            if (area.hasStateChangedSince(previousArea)) {
+                changedAreas.add(area);
+            }
+        }
+
+        return changedAreas;
+    }
+
+    /**
+     * Encodes the dragon and the fairy into the specified output stream.
+     *
+     * @param stream the output stream to encode to
+     */
+    private void encodeFigures(ByteOutputStream stream) {
+        if (dragon != null) {
+            stream.writeBoolean(true);
+            dragon.encode(stream);
+        } else {
+            stream.writeBoolean(false);
+        }
+
+        if (fairy != null) {
+            stream.writeBoolean(true);
+            fairy.encode(stream);
+        } else {
+            stream.writeBoolean(false);
         }
+    }
+
+    /**
+     * Decodes the dragon and the fairy from the specified input stream, replacing the current ones.
+     *
+     * @param stream the input stream to decode from
+     */
+    private void decodeFigures(ByteInputStream stream) {
+        stateHash ^= getDragonKey(dragon) ^ getFairyKey(fairy);
 
         if (stream.readBoolean()) {
             dragon = new Dragon(this);
@@ -436,15 +1297,21 @@ public class GameBoard {
             fairy = null;
         }
 
-        List<Area> areas = getAreas();
+        stateHash ^= getDragonKey(dragon) ^ getFairyKey(fairy);
+    }
+
+    /**
+     * Decodes the states of the areas keyed by their id, then queues the areas waiting for their closing evaluation.
+     *
+     * @param stream the input stream to decode from
+     */
+    private void decodeAreas(ByteInputStream stream) {
         int areaCount = stream.readInt();
 
-        if (areaCount != areas.size()) {
-            throw new IllegalStateException("Area count does not match with the number of areas in the stream.");
+        for (int i = 0; i < areaCount; i++) {
+            getArea(stream.readInt()).decode(stream);
         }
 
-        for (Area area : areas) {
-            area.decode(stream);
-        }
+        rebuildPendingClosingAreas();
     }
 }
@@ -0,0 +1,15 @@
+package logic.board;
+
+import logic.tile.chunk.Chunk;
+
+/**
+ * Interface for a visitor of the chunks of a tile edge.
+ */
+public interface IChunkVisitor {
+    /**
+     * Called for each chunk of the visited edge.
+     *
+     * @param chunk The chunk.
+     */
+    void visit(Chunk chunk);
+}
@@ -0,0 +1,17 @@
+package logic.board;
+
+import logic.tile.Direction;
+import logic.tile.Tile;
+
+/**
+ * Interface for a visitor of the tiles around a position of the board.
+ */
+public interface INeighbourVisitor {
+    /**
+     * Called for each tile next to the visited position.
+     *
+     * @param edge      The direction of the neighbour from the visited position.
+     * @param neighbour The neighbour tile.
+     */
+    void visit(Direction edge, Tile neighbour);
+}
@@ -0,0 +1,19 @@
+package logic.board;
+
+import logic.tile.Direction;
+import logic.tile.chunk.Chunk;
+import logic.tile.chunk.ChunkId;
+
+/**
+ * Interface for a visitor of the chunks of the neighbour tiles facing a position of the board.
+ */
+public interface IOppositeChunkVisitor {
+    /**
+     * Called for each chunk of a neighbour tile facing the visited position.
+     *
+     * @param edge          The direction of the neighbour from the visited position.
+     * @param chunkId       The id of the chunk of the visited position touching the opposite chunk.
+     * @param oppositeChunk The chunk of the neighbour tile.
+     */
+    void visit(Direction edge, ChunkId chunkId, Chunk oppositeChunk);
+}
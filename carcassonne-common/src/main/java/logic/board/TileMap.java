@@ -0,0 +1,184 @@
+package logic.board;
+
+import logic.tile.Tile;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing map of the tiles by their position.
+ * The position is packed into a long key, so the lookups do not allocate.
+ */
+class TileMap {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Tile[] values;
+    private int size;
+
+    TileMap() {
+        keys = new long[DEFAULT_CAPACITY];
+        values = new Tile[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Packs the given position into a key.
+     *
+     * @param x the x position
+     * @param y the y position
+     * @return the key
+     */
+    static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the slot of the given key.
+     *
+     * @param key  the key
+     * @param mask the mask of the table
+     * @return the first slot to probe
+     */
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Gets the number of tiles in the map.
+     *
+     * @return the number of tiles
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the tile at the given position.
+     *
+     * @param x the x position
+     * @param y the y position
+     * @return the tile, or null if there is no tile at this position
+     */
+    Tile get(int x, int y) {
+        long key = key(x, y);
+        int mask = keys.length - 1;
+
+        for (int i = slot(key, mask); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Puts the tile at the given position.
+     *
+     * @param x    the x position
+     * @param y    the y position
+     * @param tile the tile
+     */
+    void put(int x, int y, Tile tile) {
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            resize(keys.length * 2);
+        }
+
+        if (insert(key(x, y), tile)) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes the tile at the given position.
+     *
+     * @param x the x position
+     * @param y the y position
+     * @return the tile removed, or null if there was no tile at this position
+     */
+    Tile remove(int x, int y) {
+        long key = key(x, y);
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+
+        while (values[i] != null && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+
+        Tile removed = values[i];
+
+        if (removed == null) {
+            return null;
+        }
+
+        values[i] = null;
+        size--;
+
+        // Moves back the following entries that can not be found anymore after the hole.
+        for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+            int wanted = slot(keys[j], mask);
+
+            if (((j - wanted) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                values[j] = null;
+                i = j;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Removes all the tiles.
+     */
+    void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Inserts the tile without checking the capacity.
+     *
+     * @param key  the key
+     * @param tile the tile
+     * @return true if the key was not in the map, false if the tile has been replaced
+     */
+    private boolean insert(long key, Tile tile) {
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+
+        while (values[i] != null) {
+            if (keys[i] == key) {
+                values[i] = tile;
+                return false;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        values[i] = tile;
+        return true;
+    }
+
+    /**
+     * Resizes the table to the given capacity.
+     *
+     * @param capacity the new capacity, must be a power of two
+     */
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Tile[] oldValues = values;
+
+        keys = new long[capacity];
+        values = new Tile[capacity];
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package logic.board;
+
+/**
+ * Zobrist keys of the game elements, XOR-ed together to hash a game state.
+ * The board is unbounded, so instead of random tables indexed by position,
+ * each key is derived from the element attributes with a 64-bit mixing function.
+ */
+public final class ZobristKeys {
+    private static final long TILE = 1;
+    private static final long MEEPLE = 2;
+    private static final long FAIRY = 3;
+    private static final long DRAGON = 4;
+    private static final long DRAGON_PATH = 5;
+    private static final long STATE = 6;
+    private static final long TILE_DRAWN = 7;
+
+    private ZobristKeys() {
+        // ignored
+    }
+
+    /**
+     * Gets the key of a tile placed on the board.
+     *
+     * @param tileIndex the index of the tile configuration
+     * @param x         the x position of the tile
+     * @param y         the y position of the tile
+     * @param rotation  the rotation ordinal of the tile
+     * @return the key of the tile
+     */
+    public static long tile(int tileIndex, int x, int y, int rotation) {
+        return key(TILE, x, y, ((long) tileIndex << 8) | rotation);
+    }
+
+    /**
+     * Gets the key of a meeple placed on the board.
+     *
+     * @param x        the x position of the tile
+     * @param y        the y position of the tile
+     * @param chunkId  the chunk id ordinal
+     * @param playerId the owner id
+     * @return the key of the meeple
+     */
+    public static long meeple(int x, int y, int chunkId, int playerId) {
+        return key(MEEPLE, x, y, ((long) playerId << 8) | chunkId);
+    }
+
+    /**
+     * Gets the key of the fairy.
+     *
+     * @param x       the x position of the tile
+     * @param y       the y position of the tile
+     * @param chunkId the chunk id ordinal
+     * @return the key of the fairy
+     */
+    public static long fairy(int x, int y, int chunkId) {
+        return key(FAIRY, x, y, chunkId);
+    }
+
+    /**
+     * Gets the key of the dragon current position.
+     *
+     * @param x the x position of the dragon
+     * @param y the y position of the dragon
+     * @return the key of the dragon
+     */
+    public static long dragon(int x, int y) {
+        return key(DRAGON, x, y, 0);
+    }
+
+    /**
+     * Gets the key of a position of the dragon path.
+     *
+     * @param x the x position
+     * @param y the y position
+     * @return the key of the path position
+     */
+    public static long dragonPath(int x, int y) {
+        return key(DRAGON_PATH, x, y, 0);
+    }
+
+    /**
+     * Gets the key of the game state.
+     *
+     * @param stateType the state type ordinal
+     * @return the key of the state
+     */
+    public static long state(int stateType) {
+        return key(STATE, 0, 0, stateType);
+    }
+
+    /**
+     * Gets the key of the tile drawn, before it is placed.
+     *
+     * @param tileIndex the index of the tile configuration
+     * @param rotation  the rotation ordinal of the tile
+     * @return the key of the tile drawn
+     */
+    public static long tileDrawn(int tileIndex, int rotation) {
+        return key(TILE_DRAWN, 0, 0, ((long) tileIndex << 8) | rotation);
+    }
+
+    /**
+     * Derives a key from the given attributes.
+     *
+     * @param kind  the kind of element
+     * @param x     the x position
+     * @param y     the y position
+     * @param extra the other attributes of the element
+     * @return the key
+     */
+    private static long key(long kind, int x, int y, long extra) {
+        long hash = mix(kind * 0x9E3779B97F4A7C15L + (((long) x << 32) | (y & 0xFFFFFFFFL)));
+        return mix(hash ^ extra);
+    }
+
+    /**
+     * Mixes the bits of the given value (SplitMix64 finalizer).
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
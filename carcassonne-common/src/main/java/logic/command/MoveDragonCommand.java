@@ -42,7 +42,7 @@ public class MoveDragonCommand implements ICommand {
      */
     @Override
     public void encode(ByteOutputStream stream) {
-        stream.writeInt(direction.ordinal());
+        stream.writeCompactInt(direction.ordinal());
     }
 
     /**
@@ -52,7 +52,7 @@ public class MoveDragonCommand implements ICommand {
      */
     @Override
     public void decode(ByteInputStream stream) {
-        direction = Direction.values()[stream.readInt()];
+        direction = Direction.getValues()[stream.readCompactInt()];
     }
 
     /**
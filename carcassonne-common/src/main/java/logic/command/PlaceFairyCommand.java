@@ -49,7 +49,7 @@ public class PlaceFairyCommand implements ICommand {
     @Override
     public void encode(ByteOutputStream stream) {
         ByteStreamHelper.encodeVector(stream, tilePosition);
-        stream.writeInt(chunkId.ordinal());
+        stream.writeCompactInt(chunkId.ordinal());
     }
 
     /**
@@ -60,7 +60,7 @@ public class PlaceFairyCommand implements ICommand {
     @Override
     public void decode(ByteInputStream stream) {
         tilePosition = ByteStreamHelper.decodeVector(stream);
-        chunkId = ChunkId.values()[stream.readInt()];
+        chunkId = ChunkId.getValues()[stream.readCompactInt()];
     }
 
     /**
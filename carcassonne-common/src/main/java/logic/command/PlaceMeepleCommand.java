@@ -50,7 +50,7 @@ public class PlaceMeepleCommand implements ICommand {
     @Override
     public void encode(ByteOutputStream stream) {
         ByteStreamHelper.encodeVector(stream, tilePosition);
-        stream.writeInt(chunkId.ordinal());
+        stream.writeCompactInt(chunkId.ordinal());
     }
 
     /**
@@ -61,7 +61,7 @@ public class PlaceMeepleCommand implements ICommand {
     @Override
     public void decode(ByteInputStream stream) {
         tilePosition = ByteStreamHelper.decodeVector(stream);
-        chunkId = ChunkId.values()[stream.readInt()];
+        chunkId = ChunkId.getValues()[stream.readCompactInt()];
     }
 
     /**
@@ -70,7 +70,7 @@ public class RemoveMeepleCommand implements ICommand {
     @Override
     public void encode(ByteOutputStream stream) {
         ByteStreamHelper.encodeVector(stream, tilePosition);
-        stream.writeInt(tileChunkId.ordinal());
+        stream.writeCompactInt(tileChunkId.ordinal());
     }
 
     /**
@@ -81,7 +81,7 @@ public class RemoveMeepleCommand implements ICommand {
     @Override
     public void decode(ByteInputStream stream) {
         tilePosition = ByteStreamHelper.decodeVector(stream);
-        tileChunkId = ChunkId.values()[stream.readInt()];
+        tileChunkId = ChunkId.getValues()[stream.readCompactInt()];
     }
 
     /**
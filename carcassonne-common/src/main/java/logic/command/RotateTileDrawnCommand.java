@@ -40,7 +40,7 @@ public class RotateTileDrawnCommand implements ICommand {
      */
     @Override
     public void encode(ByteOutputStream stream) {
-        stream.writeInt(rotation.ordinal());
+        stream.writeCompactInt(rotation.ordinal());
     }
 
     /**
@@ -50,7 +50,7 @@ public class RotateTileDrawnCommand implements ICommand {
      */
     @Override
     public void decode(ByteInputStream stream) {
-        rotation = TileRotation.values()[stream.readInt()];
+        rotation = TileRotation.values()[stream.readCompactInt()];
     }
 
     /**
@@ -8,6 +8,7 @@ import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 /**
@@ -15,15 +16,26 @@ import java.util.List;
  */
 public class GameConfig {
     private final List<TileConfig> tiles;
+
+    /**
+     * Index of each tile configuration in the list, so the lookup does not walk the list.
+     */
+    private final IdentityHashMap<TileConfig, Integer> tileIndexes;
+
     private final int minPlayers;
     private final int maxPlayers;
     private final int startingMeepleCount;
 
     public GameConfig(List<TileConfig> tiles, int minPlayers, int maxPlayers, int startingMeepleCount) {
         this.tiles = tiles;
+        this.tileIndexes = new IdentityHashMap<>(tiles.size());
         this.minPlayers = minPlayers;
         this.maxPlayers = maxPlayers;
         this.startingMeepleCount = startingMeepleCount;
+
+        for (int i = 0; i < tiles.size(); i++) {
+            tileIndexes.putIfAbsent(tiles.get(i), i);
+        }
     }
 
     /**
@@ -98,7 +110,7 @@ public class GameConfig {
      * @return the index of the tile in the configuration list
      */
     public int getTileIndex(TileConfig tile) {
-        return tiles.indexOf(tile);
+        return tileIndexes.getOrDefault(tile, -1);
     }
 
     /**
@@ -2,8 +2,10 @@ package logic.config.excel;
 
 import excel.ExcelNode;
 import logic.Game;
+import logic.tile.Direction;
 import logic.tile.Tile;
 import logic.tile.TileFlags;
+import logic.tile.TileRotation;
 import logic.tile.area.AreaFactory;
 import logic.tile.chunk.ChunkId;
 import logic.tile.chunk.ChunkType;
@@ -14,7 +16,14 @@ import java.util.*;
  * Represents a tile excel configuration.
  */
 public class TileConfig {
+    /**
+     * Number of bits used to pack a chunk type in an edge signature.
+     */
+    private static final int CHUNK_TYPE_BITS = 3;
+    private static final int NUM_EDGES = Direction.values().length;
+
     private TileChunkConfig[] chunks;
+    private int[] edgeSignatures;
     private String model;
     private String expansion;
     private Set<TileFlags> flags;
@@ -35,6 +44,8 @@ public class TileConfig {
         this.expansion = expansion;
         this.flags = flags;
         this.count = count;
+
+        loadEdgeSignatures();
     }
 
     /**
@@ -50,6 +61,7 @@ public class TileConfig {
 
         loadData(dataExcel);
         loadChunks(chunkTypesExcel, chunkReferencesExcel);
+        loadEdgeSignatures();
     }
 
     private static String getCellValue(ExcelNode node, ChunkId chunkId) {
@@ -199,6 +211,42 @@ public class TileConfig {
         }
     }
 
+    /**
+     * Computes the edge signatures of the tile for each rotation.
+     * An edge signature packs the types of the chunks of the edge, in the
+     * order of {@link Direction#getChunkIds()}, so two tiles are compatible
+     * on an edge if the signatures of both sides are equal.
+     */
+    private void loadEdgeSignatures() {
+        int numEdgeChunks = ChunkId.values().length - 1;
+        edgeSignatures = new int[TileRotation.NUM_ROTATIONS * NUM_EDGES];
+
+        for (TileRotation rotation : TileRotation.values()) {
+            for (Direction edge : Direction.values()) {
+                int signature = 0;
+
+                for (ChunkId chunkId : edge.getChunkIds()) {
+                    // A rotation moves the chunk of the index i to the index i + 3.
+                    int originalIndex = Math.floorMod(chunkId.ordinal() - 3 * rotation.ordinal(), numEdgeChunks);
+                    signature = (signature << CHUNK_TYPE_BITS) | chunks[originalIndex].getType().ordinal();
+                }
+
+                edgeSignatures[rotation.ordinal() * NUM_EDGES + edge.ordinal()] = signature;
+            }
+        }
+    }
+
+    /**
+     * Gets the signature of the given edge for the given rotation.
+     *
+     * @param rotation The rotation of the tile.
+     * @param edge     The edge of the tile.
+     * @return The edge signature.
+     */
+    public int getEdgeSignature(TileRotation rotation, Direction edge) {
+        return edgeSignatures[rotation.ordinal() * NUM_EDGES + edge.ordinal()];
+    }
+
     /**
      * Loads the tile data from the given excel node.
      *
@@ -44,6 +44,8 @@ public final class Dragon {
             throw new IllegalArgumentException("Dragon cannot move to position " + position + " because it is already on the path.");
         }
 
+        board.onDragonMoved(this, position);
+        board.getGame().getJournal().record(() -> path.remove(path.size() - 1));
         path.add(position);
         checkAreas();
     }
@@ -54,7 +56,7 @@ public final class Dragon {
     private void checkAreas() {
         Tile tile = board.getTileAt(getPosition());
 
-        for (ChunkId chunkId : ChunkId.values()) {
+        for (ChunkId chunkId : ChunkId.getValues()) {
             Chunk chunk = tile.getChunk(chunkId);
 
             if (chunk.hasMeeple()) {
@@ -87,13 +89,36 @@ public final class Dragon {
      * @return true if the dragon can move to the specified position, false otherwise
      */
     public boolean canMoveTo(Vector2 position) {
+        return canMoveTo(position.x(), position.y());
+    }
+
+    /**
+     * Gets whether the dragon can move to the specified position.
+     *
+     * @param x the x position
+     * @param y the y position
+     * @return true if the dragon can move to the specified position, false otherwise
+     */
+    public boolean canMoveTo(int x, int y) {
         Fairy fairy = board.getFairy();
 
-        if (fairy != null && fairy.getTilePosition().equals(position)) {
+        if (fairy != null && fairy.getTilePosition().x() == x && fairy.getTilePosition().y() == y) {
+            return false;
+        }
+
+        Vector2 position = getPosition();
+
+        if (!board.hasTileAt(x, y) || Math.abs(position.x() - x) + Math.abs(position.y() - y) != 1) {
             return false;
         }
 
-        return board.hasTileAt(position) && !path.contains(position) && getPosition().subtract(position).sqrMagnitude() == 1;
+        for (Vector2 pathPosition : path) {
+            if (pathPosition.x() == x && pathPosition.y() == y) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -104,10 +129,10 @@ public final class Dragon {
     public boolean isBlocked() {
         Vector2 position = getPosition();
 
-        for (Direction direction : Direction.values()) {
-            Vector2 movePosition = position.add(direction.value());
+        for (Direction direction : Direction.getValues()) {
+            Vector2 offset = direction.value();
 
-            if (canMoveTo(movePosition)) {
+            if (canMoveTo(position.x() + offset.x(), position.y() + offset.y())) {
                 return false;
             }
         }
@@ -124,13 +149,25 @@ public final class Dragon {
         return path.size() == NUM_MOVES;
     }
 
+    /**
+     * Creates a copy of the dragon on the given board.
+     *
+     * @param board the board of the copy
+     * @return the copy of the dragon
+     */
+    public Dragon copy(GameBoard board) {
+        Dragon dragon = new Dragon(board);
+        dragon.path.addAll(path);
+        return dragon;
+    }
+
     /**
      * Encodes the dragon into a byte stream.
      *
      * @param stream the byte stream to encode the dragon into
      */
     public void encode(ByteOutputStream stream) {
-        stream.writeInt(path.size());
+        stream.writeCompactInt(path.size());
 
         for (Vector2 position : path) {
             ByteStreamHelper.encodeVector(stream, position);
@@ -145,7 +182,7 @@ public final class Dragon {
     public void decode(ByteInputStream stream) {
         path.clear();
 
-        int size = stream.readInt();
+        int size = stream.readCompactInt();
 
         for (int i = 0; i < size; i++) {
             path.add(ByteStreamHelper.decodeVector(stream));
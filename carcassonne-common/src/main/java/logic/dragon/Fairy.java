@@ -54,6 +54,19 @@ public class Fairy {
         return chunk.getParent().getPosition();
     }
 
+    /**
+     * Creates a copy of the fairy on the given board.
+     *
+     * @param board the board of the copy, with the same tiles
+     * @return the copy of the fairy
+     */
+    public Fairy copy(GameBoard board) {
+        Vector2 position = chunk.getParent().getPosition();
+        Fairy fairy = new Fairy(board, board.getTileAt(position.x(), position.y()).getChunk(chunk.getCurrentId()));
+        fairy.justSpawned = justSpawned;
+        return fairy;
+    }
+
     /**
      * Encodes this fairy into a byte stream.
      *
@@ -61,7 +74,7 @@ public class Fairy {
      */
     public void encode(ByteOutputStream stream) {
         ByteStreamHelper.encodeVector(stream, chunk.getParent().getPosition());
-        stream.writeInt(chunk.getCurrentId().ordinal());
+        stream.writeCompactInt(chunk.getCurrentId().ordinal());
         stream.writeBoolean(justSpawned);
     }
 
@@ -72,7 +85,7 @@ public class Fairy {
      */
     public void decode(ByteInputStream stream) {
         Vector2 position = ByteStreamHelper.decodeVector(stream);
-        chunk = board.getTileAt(position).getChunk(ChunkId.values()[stream.readInt()]);
+        chunk = board.getTileAt(position).getChunk(ChunkId.getValues()[stream.readCompactInt()]);
         justSpawned = stream.readBoolean();
     }
 
@@ -81,6 +94,7 @@ public class Fairy {
      */
     public void evaluate() {
         if (justSpawned) {
+            board.getGame().getJournal().record(() -> justSpawned = true);
             justSpawned = false;
             return;
         }
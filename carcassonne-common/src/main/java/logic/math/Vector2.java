@@ -1,7 +1,5 @@
 package logic.math;
 
-import java.util.Objects;
-
 /**
  * Represents a 2D vector (x,y).
  */
@@ -33,7 +31,7 @@ public record Vector2(int x, int y) {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(x, y);
+        return 31 * x + y;
     }
 
     /**
@@ -124,6 +124,20 @@ public class Player implements Comparable<Player> {
             throw new IllegalArgumentException("Score to be added must be positive.");
         }
 
+        if (game != null && game.getJournal().isRecording()) {
+            int previousRoadScore = roadScore;
+            int previousTownScore = townScore;
+            int previousAbbeyScore = abbeyScore;
+            int previousFieldScore = fieldScore;
+
+            game.getJournal().record(() -> {
+                roadScore = previousRoadScore;
+                townScore = previousTownScore;
+                abbeyScore = previousAbbeyScore;
+                fieldScore = previousFieldScore;
+            });
+        }
+
         switch (chunkType) {
             case ROAD, ROAD_END -> roadScore += value;
             case TOWN -> townScore += value;
@@ -200,6 +214,10 @@ public class Player implements Comparable<Player> {
      * Decrements the meeples played.
      */
     public void decreasePlayedMeeples() {
+        if (game != null) {
+            game.getJournal().record(() -> meeplesPlayed++);
+        }
+
         meeplesPlayed--;
     }
 
@@ -207,6 +225,10 @@ public class Player implements Comparable<Player> {
      * Increments the meeples played.
      */
     public void increasePlayedMeeples() {
+        if (game != null) {
+            game.getJournal().record(() -> meeplesPlayed--);
+        }
+
         meeplesPlayed++;
     }
 
@@ -231,6 +253,20 @@ public class Player implements Comparable<Player> {
         return getMeeplesRemained() >= 1;
     }
 
+    /**
+     * Copies the player's attributes from the given player.
+     *
+     * @param player the player to copy
+     */
+    public void copyFrom(Player player) {
+        id = player.id;
+        roadScore = player.roadScore;
+        townScore = player.townScore;
+        abbeyScore = player.abbeyScore;
+        fieldScore = player.fieldScore;
+        meeplesPlayed = player.meeplesPlayed;
+    }
+
     /**
      * Encodes the player's attributes into the given output stream.
      *
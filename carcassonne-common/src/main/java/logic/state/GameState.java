@@ -1,9 +1,12 @@
 package logic.state;
 
 import logic.Game;
+import logic.player.Player;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
 
+import java.util.Map;
+
 /**
  * Represents the state of the game.
  */
@@ -33,6 +36,18 @@ public abstract class GameState {
      */
     public abstract void decode(ByteInputStream stream);
 
+    /**
+     * Creates a copy of the state for the given game, without initializing it.
+     * The states holding values override it to copy them.
+     *
+     * @param game    The game of the copy.
+     * @param players The players of the copy, by original player.
+     * @return The copy of the state.
+     */
+    public GameState copy(Game game, Map<Player, Player> players) {
+        return GameStateFactory.createByType(getType(), game);
+    }
+
     /**
      * Completes the state.
      */
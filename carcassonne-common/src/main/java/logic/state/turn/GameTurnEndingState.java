@@ -24,7 +24,9 @@ public class GameTurnEndingState extends GameState {
     public void init() {
         GameBoard board = game.getBoard();
 
-        for (Area area : board.getAreas()) {
+        Area area;
+
+        while ((area = board.pollPendingClosingArea()) != null) {
             if (area.isWaitingClosingEvaluation()) {
                 area.evaluateClosing();
             }
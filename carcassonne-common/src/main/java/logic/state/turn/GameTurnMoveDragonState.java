@@ -4,6 +4,7 @@ import logic.Game;
 import logic.board.GameBoard;
 import logic.dragon.Dragon;
 import logic.math.Vector2;
+import logic.player.Player;
 import logic.state.GameState;
 import logic.state.GameStateType;
 import logic.tile.TileFlags;
@@ -11,6 +12,8 @@ import stream.ByteInputStream;
 import stream.ByteOutputStream;
 import stream.ByteStreamHelper;
 
+import java.util.Map;
+
 /**
  * Represents the state of a game turn when a player needs to move the dragon.
  * The state is completed if there is no dragon on the board.
@@ -39,13 +42,25 @@ public class GameTurnMoveDragonState extends GameState {
                 board.killDragon();
                 complete();
             } else {
-                game.getTurnExecutor().getListener().onWaitingDragonMove();
+                game.getTurnExecutorListener().onWaitingDragonMove();
             }
         } else {
             complete();
         }
     }
 
+    /**
+     * Creates a copy of the state for the given game, without initializing it.
+     *
+     * @param game    The game of the copy.
+     * @param players The players of the copy, by original player.
+     * @return The copy of the state.
+     */
+    @Override
+    public GameState copy(Game game, Map<Player, Player> players) {
+        return new GameTurnMoveDragonState(game, tilePosition);
+    }
+
     /**
      * Encodes the state to a byte stream.
      *
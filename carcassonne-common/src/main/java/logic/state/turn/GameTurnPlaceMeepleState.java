@@ -2,12 +2,15 @@ package logic.state.turn;
 
 import logic.Game;
 import logic.math.Vector2;
+import logic.player.Player;
 import logic.state.GameState;
 import logic.state.GameStateType;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
 import stream.ByteStreamHelper;
 
+import java.util.Map;
+
 /**
  * Represents the state of a game turn when a player needs to place a meeple.
  * <p>
@@ -38,12 +41,24 @@ public class GameTurnPlaceMeepleState extends GameState {
     @Override
     public void init() {
         if (game.getTurnExecutor().hasRemainingMeeples()) {
-            game.getTurnExecutor().getListener().onWaitingMeeplePlacement();
+            game.getTurnExecutorListener().onWaitingMeeplePlacement();
         } else {
             complete();
         }
     }
 
+    /**
+     * Creates a copy of the state for the given game, without initializing it.
+     *
+     * @param game    The game of the copy.
+     * @param players The players of the copy, by original player.
+     * @return The copy of the state.
+     */
+    @Override
+    public GameState copy(Game game, Map<Player, Player> players) {
+        return new GameTurnPlaceMeepleState(game, tilePosition);
+    }
+
     /**
      * Encodes the state to a byte stream.
      *
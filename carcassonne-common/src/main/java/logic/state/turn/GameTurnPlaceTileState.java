@@ -1,13 +1,17 @@
 package logic.state.turn;
 
 import logic.Game;
+import logic.player.Player;
 import logic.state.GameState;
 import logic.state.GameStateType;
 import logic.tile.Tile;
+import logic.tile.TileRotation;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
 import stream.ByteStreamHelper;
 
+import java.util.Map;
+
 /**
  * Represents the state of a game turn when a player is placing a tile.
  */
@@ -31,7 +35,20 @@ public class GameTurnPlaceTileState extends GameState {
      */
     @Override
     public void init() {
-        game.getTurnExecutor().getListener().onWaitingPlaceTile();
+        game.getTurnExecutorListener().onWaitingPlaceTile();
+    }
+
+    /**
+     * Creates a copy of the state for the given game, without initializing it.
+     * The tile drawn is copied with its rotation.
+     *
+     * @param game    The game of the copy.
+     * @param players The players of the copy, by original player.
+     * @return The copy of the state.
+     */
+    @Override
+    public GameState copy(Game game, Map<Player, Player> players) {
+        return new GameTurnPlaceTileState(game, tileDrawn != null ? tileDrawn.copy(game, players) : null);
     }
 
     /**
@@ -42,6 +59,9 @@ public class GameTurnPlaceTileState extends GameState {
     @Override
     public void encode(ByteOutputStream stream) {
         ByteStreamHelper.encodeTile(stream, tileDrawn, game);
+
+        /* The tile only encodes its rotation once placed, but the tile drawn can be rotated before. */
+        stream.writeCompactInt(tileDrawn.getRotation().ordinal());
     }
 
     /**
@@ -52,6 +72,7 @@ public class GameTurnPlaceTileState extends GameState {
     @Override
     public void decode(ByteInputStream stream) {
         tileDrawn = ByteStreamHelper.decodeTile(stream, game);
+        tileDrawn.setRotation(TileRotation.values()[stream.readCompactInt()]);
     }
 
     /**
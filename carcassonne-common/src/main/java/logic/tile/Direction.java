@@ -27,12 +27,32 @@ public enum Direction {
      */
     RIGHT(new Vector2(1, 0));
 
+    /**
+     * Number of directions.
+     */
+    public static final int NUM_DIRECTIONS = values().length;
+
+    /**
+     * Directions, shared to avoid the copy made by {@link #values()}.
+     */
+    private static final Direction[] VALUES = values();
+
     private final Vector2 value;
 
     Direction(Vector2 value) {
         this.value = value;
     }
 
+    /**
+     * Returns all the directions.
+     * The returned array is shared and must not be modified.
+     *
+     * @return the directions
+     */
+    public static Direction[] getValues() {
+        return VALUES;
+    }
+
     /**
      * Gets the value of the edge.
      *
@@ -58,15 +78,41 @@ public enum Direction {
 
     /**
      * Gets the chunks that are adjacent to the direction.
+     * The returned array is shared and must not be modified.
      *
      * @return the chunks that are adjacent to the direction
      */
     public ChunkId[] getChunkIds() {
-        return switch (this) {
-            case TOP -> new ChunkId[]{ChunkId.NORTH_LEFT, ChunkId.NORTH_MIDDLE, ChunkId.NORTH_RIGHT};
-            case BOTTOM -> new ChunkId[]{ChunkId.SOUTH_LEFT, ChunkId.SOUTH_MIDDLE, ChunkId.SOUTH_RIGHT};
-            case LEFT -> new ChunkId[]{ChunkId.WEST_TOP, ChunkId.WEST_MIDDLE, ChunkId.WEST_BOTTOM};
-            case RIGHT -> new ChunkId[]{ChunkId.EAST_TOP, ChunkId.EAST_MIDDLE, ChunkId.EAST_BOTTOM};
-        };
+        return EdgeChunkIds.CHUNK_IDS[ordinal()];
+    }
+
+    /**
+     * Gets the chunks of the neighbour tile facing the chunks adjacent to the direction.
+     * The chunk at index i faces the chunk at the same index in {@link #getChunkIds()}.
+     * The returned array is shared and must not be modified.
+     *
+     * @return the chunks of the neighbour tile facing the direction
+     */
+    public ChunkId[] getOppositeChunkIds() {
+        return EdgeChunkIds.CHUNK_IDS[negate().ordinal()];
+    }
+
+    /**
+     * Chunk ids adjacent to each direction.
+     * They are held apart so they are only computed once both enums are initialized, as the chunk ids refer to the directions.
+     */
+    private static final class EdgeChunkIds {
+        private static final ChunkId[][] CHUNK_IDS = new ChunkId[NUM_DIRECTIONS][];
+
+        static {
+            CHUNK_IDS[TOP.ordinal()] = new ChunkId[]{ChunkId.NORTH_LEFT, ChunkId.NORTH_MIDDLE, ChunkId.NORTH_RIGHT};
+            CHUNK_IDS[BOTTOM.ordinal()] = new ChunkId[]{ChunkId.SOUTH_LEFT, ChunkId.SOUTH_MIDDLE, ChunkId.SOUTH_RIGHT};
+            CHUNK_IDS[LEFT.ordinal()] = new ChunkId[]{ChunkId.WEST_TOP, ChunkId.WEST_MIDDLE, ChunkId.WEST_BOTTOM};
+            CHUNK_IDS[RIGHT.ordinal()] = new ChunkId[]{ChunkId.EAST_TOP, ChunkId.EAST_MIDDLE, ChunkId.EAST_BOTTOM};
+        }
+
+        private EdgeChunkIds() {
+            // ignored
+        }
     }
 }
@@ -4,6 +4,7 @@ import logic.Game;
 import logic.board.GameBoard;
 import logic.config.excel.TileConfig;
 import logic.math.Vector2;
+import logic.player.Player;
 import logic.tile.area.Area;
 import logic.tile.chunk.Chunk;
 import logic.tile.chunk.ChunkId;
@@ -13,6 +14,7 @@ import stream.ByteStreamHelper;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a tile on the game board.
@@ -20,12 +22,15 @@ import java.util.List;
 public class Tile {
     private final TileConfig config;
     private final Game game;
+    /**
+     * Chunks of the tile by id when the tile is not rotated.
+     */
     private final Chunk[] chunks;
     private Vector2 position;
     private TileRotation rotation;
 
     public Tile(TileConfig config, Game game) {
-        chunks = new Chunk[ChunkId.values().length];
+        chunks = new Chunk[ChunkId.NUM_CHUNKS];
         this.config = config;
         this.game = game;
         this.rotation = TileRotation.UP;
@@ -35,13 +40,7 @@ public class Tile {
      * Rotates the tile to 90 degrees in the clockwise direction.
      */
     public void rotate() {
-        Chunk[] originalChunkOrder = chunks.clone();
-
-        for (int i = 0; i < originalChunkOrder.length - 1; i++) {
-            setChunk(ChunkId.values()[(i + 3) % (ChunkId.values().length - 1)], originalChunkOrder[i]);
-        }
-
-        this.rotation = this.rotation.next();
+        setRotation(rotation.next());
     }
 
     /**
@@ -55,11 +54,15 @@ public class Tile {
 
     /**
      * Rotates the tile to the given rotation.
+     * The chunks are not moved, {@link #getChunk(ChunkId)} applies the rotation to the id.
      */
     public void setRotation(TileRotation rotation) {
-        while (this.rotation != rotation) {
-            rotate();
+        if (game != null && game.getJournal().isRecording()) {
+            TileRotation previousRotation = this.rotation;
+            game.getJournal().record(() -> this.rotation = previousRotation);
         }
+
+        this.rotation = rotation;
     }
 
     /**
@@ -86,6 +89,11 @@ public class Tile {
      * @param position The position of the tile.
      */
     public void setPosition(Vector2 position) {
+        if (game != null && game.getJournal().isRecording()) {
+            Vector2 previousPosition = this.position;
+            game.getJournal().record(() -> this.position = previousPosition);
+        }
+
         this.position = position;
     }
 
@@ -105,7 +113,7 @@ public class Tile {
      * @return The chunk with the given id.
      */
     public Chunk getChunk(ChunkId id) {
-        return chunks[id.ordinal()];
+        return chunks[id.unrotate(rotation).ordinal()];
     }
 
     /**
@@ -114,9 +122,8 @@ public class Tile {
      * @param id    The id of the chunk.
      * @param chunk The chunk to set.
      */
-
     public void setChunk(ChunkId id, Chunk chunk) {
-        chunks[id.ordinal()] = chunk;
+        chunks[id.unrotate(rotation).ordinal()] = chunk;
         chunk.setCurrentId(id);
     }
 
@@ -148,6 +155,16 @@ public class Tile {
         return hasFlag(TileFlags.VOLCANO);
     }
 
+    /**
+     * Gets the signature of the given edge for the current rotation.
+     *
+     * @param edge The edge of the tile.
+     * @return The edge signature.
+     */
+    public int getEdgeSignature(Direction edge) {
+        return config.getEdgeSignature(rotation, edge);
+    }
+
     /**
      * Checks if the chunks that are connected to the given tile chunks are compatible.
      *
@@ -156,19 +173,7 @@ public class Tile {
      * @return True if the chunks are compatible, false otherwise.
      */
     public boolean checkChunkCompatibility(Tile tile, Direction edgeConnection) {
-        ChunkId[] ownChunkIds = edgeConnection.getChunkIds();
-        ChunkId[] oppositeChunkIds = edgeConnection.negate().getChunkIds();
-
-        for (int i = 0; i < ownChunkIds.length; i++) {
-            ChunkId ownChunkId = ownChunkIds[i];
-            ChunkId oppositeChunkId = oppositeChunkIds[i];
-
-            if (!getChunk(ownChunkId).isCompatibleWith(tile.getChunk(oppositeChunkId))) {
-                return false;
-            }
-        }
-
-        return true;
+        return getEdgeSignature(edgeConnection) == tile.getEdgeSignature(edgeConnection.negate());
     }
 
     /**
@@ -178,15 +183,30 @@ public class Tile {
      * @return True if the tile can be placed at the given position, false otherwise.
      */
     public boolean canBePlacedAt(Vector2 position) {
+        return canBePlacedAt(position, rotation);
+    }
+
+    /**
+     * Determines if the tile can be placed at the given position with the given rotation.
+     * The tile is not rotated to check it.
+     *
+     * @param position The position to check.
+     * @param rotation The rotation to check.
+     * @return True if the tile can be placed at the given position, false otherwise.
+     */
+    public boolean canBePlacedAt(Vector2 position, TileRotation rotation) {
         boolean hasContactWithTile = false;
 
-        for (Direction edge : Direction.values()) {
-            Tile edgeTile = game.getBoard().getTileAt(position.add(edge.value()));
+        GameBoard board = game.getBoard();
+
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+            Tile edgeTile = board.getTileAt(position.x() + offset.x(), position.y() + offset.y());
 
             if (edgeTile != null) {
                 hasContactWithTile = true;
 
-                if (!checkChunkCompatibility(edgeTile, edge)) {
+                if (config.getEdgeSignature(rotation, edge) != edgeTile.getEdgeSignature(edge.negate())) {
                     return false;
                 }
             }
@@ -205,40 +225,32 @@ public class Tile {
     }
 
     /**
-     * Tries to merge the chunk areas with the areas that are connected to the given edge.
+     * Tries to merge the area of the given chunk with the area of the neighbour chunk touching it.
      *
-     * @param neighborTile The tile to merge with.
+     * @param chunkId       The id of the chunk of the tile.
+     * @param neighborChunk The chunk of the neighbour tile.
      */
-    public void mergeAreas(Tile neighborTile, Direction edgeConnection) {
-        ChunkId[] ownChunkIds = edgeConnection.getChunkIds();
-        ChunkId[] oppositeChunkIds = edgeConnection.negate().getChunkIds();
-
-        for (int i = 0; i < ownChunkIds.length; i++) {
-            ChunkId ownChunkId = ownChunkIds[i];
-            ChunkId neighborChunkId = oppositeChunkIds[i];
-
-            Area ownChunkArea = getChunk(ownChunkId).getArea();
-            Area neighborChunkArea = neighborTile.getChunk(neighborChunkId).getArea();
+    private void mergeArea(ChunkId chunkId, Chunk neighborChunk) {
+        Area ownChunkArea = getChunk(chunkId).getArea();
+        Area neighborChunkArea = neighborChunk.getArea();
 
-            /* We are checking if the area of this chunk is not merged already. */
-            if (ownChunkArea != neighborChunkArea) {
-                neighborChunkArea.merge(ownChunkArea);
-            }
+        /* We are checking if the area of this chunk is not merged already. */
+        if (ownChunkArea != neighborChunkArea) {
+            neighborChunkArea.merge(ownChunkArea);
         }
     }
 
     /**
      * Tries to merge the chunk areas with the areas that are connected to the edges of the tile.
+     * The resulting areas of the tile are marked as dirty on the board to update their closure.
      */
     public void mergeAreas() {
         GameBoard board = game.getBoard();
 
-        for (Direction edge : Direction.values()) {
-            Tile edgeTile = board.getTileAt(position.add(edge.value()));
+        board.forEachOppositeChunk(position.x(), position.y(), (edge, chunkId, neighborChunk) -> mergeArea(chunkId, neighborChunk));
 
-            if (edgeTile != null) {
-                mergeAreas(edgeTile, edge);
-            }
+        for (Area area : getAreas()) {
+            board.markAreaDirty(area);
         }
     }
 
@@ -262,6 +274,28 @@ public class Tile {
         return config;
     }
 
+    /**
+     * Creates a copy of the tile for the given game.
+     * The chunks and areas are created from the shared configuration, only the position,
+     * the rotation and the meeples are copied.
+     *
+     * @param game    The game of the copy.
+     * @param players The players of the copy, by original player.
+     * @return The copy of the tile.
+     */
+    public Tile copy(Game game, Map<Player, Player> players) {
+        Tile tile = config.createTile(game);
+
+        tile.setRotation(rotation);
+        tile.position = position;
+
+        for (int i = 0; i < chunks.length; i++) {
+            tile.chunks[i].copyFrom(chunks[i], players);
+        }
+
+        return tile;
+    }
+
     /**
      * Encodes the tile.
      *
@@ -271,13 +305,13 @@ public class Tile {
         if (position != null) {
             stream.writeBoolean(true);
             ByteStreamHelper.encodeVector(stream, position);
-            stream.writeInt(rotation.ordinal());
+            stream.writeCompactInt(rotation.ordinal());
         } else {
             stream.writeBoolean(false);
         }
 
-        for (Chunk chunk : chunks) {
-            chunk.encode(stream);
+        for (ChunkId chunkId : ChunkId.getValues()) {
+            getChunk(chunkId).encode(stream);
         }
     }
 
@@ -289,13 +323,13 @@ public class Tile {
     public void decode(ByteInputStream stream) {
         if (stream.readBoolean()) {
             position = ByteStreamHelper.decodeVector(stream);
-            setRotation(TileRotation.values()[stream.readInt()]);
+            setRotation(TileRotation.values()[stream.readCompactInt()]);
         } else {
             position = null;
         }
 
-        for (Chunk chunk : chunks) {
-            chunk.decode(stream);
+        for (ChunkId chunkId : ChunkId.getValues()) {
+            getChunk(chunkId).decode(stream);
         }
     }
 
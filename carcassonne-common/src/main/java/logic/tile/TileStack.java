@@ -7,36 +7,74 @@ import stream.ByteInputStream;
 import stream.ByteOutputStream;
 import stream.ByteStreamHelper;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents a stack of tiles.
+ * The tiles are stored in an array with the top of the stack at the end, so drawing a tile is O(1).
+ * The stack keeps the number of remaining tiles of each configuration up to date on every draw.
  */
 public class TileStack {
-    private final LinkedList<Tile> tiles;
+    private static final int DEFAULT_CAPACITY = 128;
+
     private final Game game;
 
+    /**
+     * Tiles of the stack, from the bottom to the top.
+     */
+    private Tile[] tiles;
+    private int size;
+
+    /**
+     * Number of tiles of each configuration in the stack, by configuration index.
+     */
+    private final int[] remainingCounts;
+
+    /**
+     * State of the random generator used to shuffle the stack.
+     * It is part of the snapshot, so the shuffles of a game can be replayed.
+     */
+    private long seed;
+
     public TileStack(Game game) {
-        this.tiles = new LinkedList<>();
         this.game = game;
+        this.tiles = new Tile[DEFAULT_CAPACITY];
+        this.remainingCounts = new int[game.getConfig().getTiles().size()];
+        this.seed = ThreadLocalRandom.current().nextLong();
     }
 
     /**
      * Clears the stack.
      */
     public void clear() {
-        tiles.clear();
+        Arrays.fill(tiles, 0, size, null);
+        Arrays.fill(remainingCounts, 0);
+        size = 0;
     }
 
     /**
      * Fill the stack with the given number of tiles.
+     * The tiles are added under the tiles already in the stack.
      *
      * @param tiles Tiles to fill the stack with.
      */
     public void fill(List<Tile> tiles) {
-        this.tiles.addAll(tiles);
+        int count = tiles.size();
+
+        ensureCapacity(size + count);
+        System.arraycopy(this.tiles, 0, this.tiles, count, size);
+
+        for (int i = 0; i < count; i++) {
+            Tile tile = tiles.get(count - 1 - i);
+            this.tiles[i] = tile;
+            updateRemainingCount(tile, 1);
+        }
+
+        size += count;
+        game.getJournal().record(() -> removeBottom(count));
     }
 
     /**
@@ -47,18 +85,36 @@ public class TileStack {
     public void fill(GameConfig config) {
         for (TileConfig tileConfig : config.getTiles()) {
             for (int i = 0; i < tileConfig.getCount(); i++) {
-                tiles.add(tileConfig.createTile(game));
+                push(tileConfig.createTile(game));
             }
         }
     }
 
+    /**
+     * Fill the stack with copies of the tiles of the given stack.
+     *
+     * @param stack Stack to copy.
+     */
+    public void copyFrom(TileStack stack) {
+        clear();
+        ensureCapacity(stack.size);
+
+        for (int i = 0; i < stack.size; i++) {
+            tiles[i] = stack.tiles[i].copy(game, Map.of());
+        }
+
+        size = stack.size;
+        seed = stack.seed;
+        System.arraycopy(stack.remainingCounts, 0, remainingCounts, 0, remainingCounts.length);
+    }
+
     /**
      * Get the number of tiles in the stack.
      *
      * @return Number of tiles in the stack.
      */
     public int getNumTiles() {
-        return tiles.size();
+        return size;
     }
 
     /**
@@ -67,7 +123,47 @@ public class TileStack {
      * @return True if the stack is empty, false otherwise.
      */
     public boolean isEmpty() {
-        return getNumTiles() == 0;
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of tiles of the given configuration remaining in the stack.
+     * Divided by {@link #getNumTiles()}, it gives the probability of drawing the configuration.
+     *
+     * @param config the tile configuration
+     * @return the number of remaining tiles of the configuration
+     */
+    public int getRemainingCount(TileConfig config) {
+        int configIndex = game.getConfig().getTileIndex(config);
+        return configIndex != -1 ? remainingCounts[configIndex] : 0;
+    }
+
+    /**
+     * Gets the number of tiles of the configuration with the given index remaining in the stack.
+     *
+     * @param configIndex the index of the tile configuration
+     * @return the number of remaining tiles of the configuration
+     */
+    public int getRemainingCount(int configIndex) {
+        return remainingCounts[configIndex];
+    }
+
+    /**
+     * Gets the seed used by the next shuffle.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed used by the next shuffle, so the order of the tiles can be reproduced.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
     }
 
     /**
@@ -76,7 +172,15 @@ public class TileStack {
      * @return Tile drawn from the stack.
      */
     public Tile remove() {
-        return tiles.remove();
+        if (size == 0) {
+            throw new IllegalStateException("The stack is empty.");
+        }
+
+        Tile tile = tiles[--size];
+        tiles[size] = null;
+        updateRemainingCount(tile, -1);
+        game.getJournal().record(() -> push(tile));
+        return tile;
     }
 
     /**
@@ -85,19 +189,32 @@ public class TileStack {
      * @return Top tile in the stack.
      */
     public Tile peek() {
-        return tiles.peek();
+        return size != 0 ? tiles[size - 1] : null;
     }
 
     /**
      * Shuffle the stack. Starting tile is not shuffled.
      */
     public void shuffle() {
-        Collections.shuffle(tiles);
-        Tile startingTile = tiles.stream().filter(f -> f.hasFlag(TileFlags.STARTING)).findAny().orElse(null);
+        if (game.getJournal().isRecording()) {
+            Tile[] previousTiles = Arrays.copyOf(tiles, size);
+            long previousSeed = seed;
+
+            game.getJournal().record(() -> {
+                System.arraycopy(previousTiles, 0, tiles, 0, previousTiles.length);
+                seed = previousSeed;
+            });
+        }
 
-        if (startingTile != null) {
-            tiles.remove(startingTile);
-            tiles.addFirst(startingTile);
+        for (int i = size - 1; i > 0; i--) {
+            swap(i, nextRandom(i + 1));
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (tiles[i].hasFlag(TileFlags.STARTING)) {
+                swap(i, size - 1);
+                break;
+            }
         }
     }
 
@@ -108,10 +225,11 @@ public class TileStack {
      * @param game   Game to encode the stack for.
      */
     public void encode(ByteOutputStream stream, Game game) {
-        stream.writeInt(tiles.size());
+        stream.writeLong(seed);
+        stream.writeInt(size);
 
-        for (Tile tile : tiles) {
-            ByteStreamHelper.encodeTile(stream, tile, game);
+        for (int i = size - 1; i >= 0; i--) {
+            ByteStreamHelper.encodeTile(stream, tiles[i], game);
         }
     }
 
@@ -122,12 +240,92 @@ public class TileStack {
      * @param game   Game to decode the stack for.
      */
     public void decode(ByteInputStream stream, Game game) {
-        tiles.clear();
+        clear();
 
+        seed = stream.readLong();
         int numTiles = stream.readInt();
+        ensureCapacity(numTiles);
+
+        for (int i = numTiles - 1; i >= 0; i--) {
+            Tile tile = ByteStreamHelper.decodeTile(stream, game);
+            tiles[i] = tile;
+            updateRemainingCount(tile, 1);
+        }
+
+        size = numTiles;
+    }
+
+    /**
+     * Puts a tile on the top of the stack.
+     *
+     * @param tile the tile
+     */
+    private void push(Tile tile) {
+        ensureCapacity(size + 1);
+        tiles[size++] = tile;
+        updateRemainingCount(tile, 1);
+    }
+
+    /**
+     * Removes the given number of tiles from the bottom of the stack, when a fill is unmade.
+     *
+     * @param count the number of tiles to remove
+     */
+    private void removeBottom(int count) {
+        for (int i = 0; i < count; i++) {
+            updateRemainingCount(tiles[i], -1);
+        }
 
-        for (int i = 0; i < numTiles; i++) {
-            tiles.add(ByteStreamHelper.decodeTile(stream, game));
+        System.arraycopy(tiles, count, tiles, 0, size - count);
+        Arrays.fill(tiles, size - count, size, null);
+        size -= count;
+    }
+
+    /**
+     * Updates the remaining count of the configuration of the given tile.
+     *
+     * @param tile  the tile added or removed
+     * @param delta the change of the count
+     */
+    private void updateRemainingCount(Tile tile, int delta) {
+        int configIndex = game.getConfig().getTileIndex(tile.getConfig());
+
+        if (configIndex != -1) {
+            remainingCounts[configIndex] += delta;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Grows the array of tiles so it can hold the given number of tiles.
+     *
+     * @param capacity the number of tiles
+     */
+    private void ensureCapacity(int capacity) {
+        if (tiles.length < capacity) {
+            tiles = Arrays.copyOf(tiles, Math.max(capacity, tiles.length * 2));
+        }
+    }
+
+    private void swap(int i, int j) {
+        Tile tile = tiles[i];
+        tiles[i] = tiles[j];
+        tiles[j] = tile;
+    }
+
+    /**
+     * Advances the random generator (SplitMix64) and gets a number in the given bound.
+     *
+     * @param bound the exclusive upper bound
+     * @return a number between 0 and the bound
+     */
+    private int nextRandom(int bound) {
+        seed += 0x9E3779B97F4A7C15L;
+
+        long value = seed;
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        value ^= value >>> 31;
+
+        return (int) (((value >>> 32) * bound) >>> 32);
+    }
+}
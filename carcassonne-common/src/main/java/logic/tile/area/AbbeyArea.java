@@ -66,6 +66,29 @@ public class AbbeyArea extends Area {
         return NUM_NEIGHBORS_REQUIRED - getFreeEdges();
     }
 
+    /**
+     * Counts the free edges of the area when its base tile is placed.
+     * For an abbey, these are the empty cells around the tile.
+     *
+     * @param board The board the base tile is placed on.
+     * @return The free edges of the area.
+     */
+    @Override
+    protected int countFreeEdges(GameBoard board) {
+        Vector2 abbeyPosition = getBaseTile().getPosition();
+        int freeEdges = 0;
+
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                if (!board.hasTileAt(abbeyPosition.x() + i, abbeyPosition.y() + j)) {
+                    ++freeEdges;
+                }
+            }
+        }
+
+        return freeEdges;
+    }
+
     /**
      * Gets the remaining tile edges that can be used to continue the area including the tile to place.
      *
@@ -78,11 +101,14 @@ public class AbbeyArea extends Area {
 
         int freeEdges = 0;
 
+        Vector2 abbeyPosition = abbeyTile.getPosition();
+
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
-                Vector2 position = abbeyTile.getPosition().add(new Vector2(i, j));
+                int x = abbeyPosition.x() + i;
+                int y = abbeyPosition.y() + j;
 
-                if (!board.hasTileAt(position) && tiles.stream().noneMatch(tile -> tile.getPosition().equals(position))) {
+                if (!board.hasTileAt(x, y) && !containsTileAt(tiles, x, y)) {
                     ++freeEdges;
                 }
             }
@@ -9,22 +9,54 @@ import logic.tile.Direction;
 import logic.tile.Tile;
 import logic.tile.TileFlags;
 import logic.tile.chunk.Chunk;
+import logic.tile.chunk.ChunkId;
 import logic.tile.chunk.ChunkType;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Represents a chunk area.
  * It contains the list of chunks in the area.
  */
 public abstract class Area {
-    private final HashSet<Chunk> chunks;
-    private final HashSet<Tile> tiles;
+    /**
+     * Chunks of the base tile that belong to this area before any merge.
+     */
+    private final List<Chunk> ownChunks;
     private final Tile baseTile;
 
+    /**
+     * Registry of the board the area is placed on, null until the tile is placed.
+     */
+    private AreaRegistry registry;
+    private int id;
+
+    /**
+     * Other areas of the base tile with the same type, including this one.
+     * When two of them are merged, the base tile must only be counted once.
+     */
+    private List<Area> tileGroup;
+
+    /**
+     * Members of the set whose base tile has other areas of the same type.
+     * Only maintained on the root area.
+     */
+    private List<Area> sharedTileMembers;
+
+    /**
+     * Edges of the base tile on which the area has a chunk, as a bit mask of directions.
+     */
+    private int edgeMask;
+
+    /* Aggregates of the whole set, only maintained on the root area. */
+    private int freeEdges;
+    private int numTiles;
+    private int numShields;
+    private int numMeeples;
+    private HashMap<Player, Integer> numMeeplesPerPlayer;
+
     private boolean closed;
     private boolean waitingClosingEvaluation;
 
@@ -34,17 +66,329 @@ public abstract class Area {
     protected Area(List<Chunk> chunks) {
         Chunk firstChunk = chunks.get(0);
 
-        this.chunks = new HashSet<>(chunks);
-
-        tiles = new HashSet<>();
+        ownChunks = List.copyOf(chunks);
         closed = false;
 
         baseTile = firstChunk.getParent();
-        tiles.add(baseTile);
+        id = -1;
+        tileGroup = List.of(this);
+        sharedTileMembers = new ArrayList<>();
+
+        numTiles = 1;
+        numShields = baseTile != null && baseTile.hasFlag(TileFlags.SHIELD) ? 1 : 0;
+        numMeeplesPerPlayer = new HashMap<>();
 
         for (Chunk chunk : chunks) {
             chunk.setArea(this);
+
+            if (chunk.hasMeeple()) {
+                onMeeplePlaced(chunk.getMeeple());
+            }
+        }
+    }
+
+    /**
+     * Gets the registry the area is registered in.
+     *
+     * @return The registry, or null if the area is not placed on a board.
+     */
+    public AreaRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Gets the id of the area in its registry.
+     *
+     * @return The area id, or -1 if the area is not placed on a board.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the area resulting from all the merges of this area.
+     *
+     * @return The root area.
+     */
+    public Area getRoot() {
+        return registry == null ? this : registry.find(this);
+    }
+
+    /**
+     * Called when the area is registered on a board.
+     *
+     * @param registry  The board registry.
+     * @param id        The area id.
+     * @param tileGroup The areas of the base tile with the same type.
+     * @param board     The board the base tile is placed on.
+     */
+    void onRegistered(AreaRegistry registry, int id, List<Area> tileGroup, GameBoard board) {
+        this.registry = registry;
+        this.id = id;
+        this.tileGroup = tileGroup;
+
+        if (tileGroup.size() > 1) {
+            sharedTileMembers.add(this);
+        }
+
+        edgeMask = computeEdgeMask();
+        freeEdges = countFreeEdges(board);
+    }
+
+    /**
+     * Finds the copy of this area among the areas of the copied tiles of the given board.
+     *
+     * @param board The board with the copied tiles.
+     * @return The copied area.
+     */
+    Area findCopy(GameBoard board) {
+        Vector2 position = baseTile.getPosition();
+        return board.getTileAt(position.x(), position.y()).getChunk(ownChunks.get(0).getCurrentId()).getArea();
+    }
+
+    /**
+     * Copies the registration and the aggregates of the given area.
+     * The areas of the registry must already be copies of the areas of the other registry.
+     *
+     * @param area     The area to copy.
+     * @param registry The registry of the copy.
+     * @param players  The copied players, by original player.
+     */
+    void copyFrom(Area area, AreaRegistry registry, Map<Player, Player> players) {
+        this.registry = registry;
+        id = area.id;
+        tileGroup = area.tileGroup.stream().map(a -> registry.getArea(a.id)).toList();
+        sharedTileMembers = new ArrayList<>(area.sharedTileMembers.size());
+
+        for (Area member : area.sharedTileMembers) {
+            sharedTileMembers.add(registry.getArea(member.id));
+        }
+
+        edgeMask = area.edgeMask;
+        freeEdges = area.freeEdges;
+        numTiles = area.numTiles;
+        numShields = area.numShields;
+        numMeeples = area.numMeeples;
+        numMeeplesPerPlayer = new HashMap<>();
+        area.numMeeplesPerPlayer.forEach((player, count) -> numMeeplesPerPlayer.put(players.get(player), count));
+        closed = area.closed;
+        waitingClosingEvaluation = area.waitingClosingEvaluation;
+    }
+
+    /**
+     * Called when the registration of the area is unmade.
+     */
+    void onUnregistered() {
+        registry = null;
+        id = -1;
+        tileGroup = List.of(this);
+        sharedTileMembers = new ArrayList<>();
+    }
+
+    /**
+     * Computes the edges of the base tile on which the area has a chunk, with the current tile rotation.
+     *
+     * @return The bit mask of directions.
+     */
+    private int computeEdgeMask() {
+        int mask = 0;
+
+        for (Chunk chunk : ownChunks) {
+            Direction edge = chunk.getCurrentId().getEdge();
+
+            if (edge != null) {
+                mask |= 1 << edge.ordinal();
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Counts the free edges of the area when its base tile is placed, before any merge.
+     * An edge is free if the neighbour cell is empty, or if the area can not continue on the neighbour.
+     *
+     * @param board The board the base tile is placed on.
+     * @return The free edges of the area.
+     */
+    protected int countFreeEdges(GameBoard board) {
+        Vector2 position = baseTile.getPosition();
+        int count = 0;
+
+        for (Direction edge : Direction.getValues()) {
+            if ((edgeMask & (1 << edge.ordinal())) != 0) {
+                Vector2 offset = edge.value();
+
+                if (!canBeMerged(this) || !board.hasTileAt(position.x() + offset.x(), position.y() + offset.y())) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Called when a free edge of the area is used by a tile placed next to it.
+     */
+    void onFreeEdgeUsed() {
+        Area root = getRoot();
+
+        registry.getJournal().record(() -> root.freeEdges++);
+        root.freeEdges--;
+    }
+
+    /**
+     * Called on the root area when another root area is merged into this one.
+     * Combines the aggregates of both sets.
+     *
+     * @param other The other root area.
+     */
+    void onMerged(Area other) {
+        if (registry.getJournal().isRecording()) {
+            recordMerge(other);
+        }
+
+        /* Tiles having an area in both sets would be counted twice. */
+        List<Area> smallest = sharedTileMembers.size() <= other.sharedTileMembers.size() ? sharedTileMembers : other.sharedTileMembers;
+        Area smallestRoot = smallest == sharedTileMembers ? this : other;
+        Area biggestRoot = smallestRoot == this ? other : this;
+
+        for (Area member : smallest) {
+            if (member.isFirstOfTileIn(smallestRoot) && member.hasTileIn(biggestRoot)) {
+                numTiles--;
+
+                if (member.baseTile.hasFlag(TileFlags.SHIELD)) {
+                    numShields--;
+                }
+
+                freeEdges -= member.getSharedFreeEdges(smallestRoot, biggestRoot);
+            }
+        }
+
+        freeEdges += other.freeEdges;
+        numTiles += other.numTiles;
+        numShields += other.numShields;
+        numMeeples += other.numMeeples;
+        other.numMeeplesPerPlayer.forEach((player, count) -> numMeeplesPerPlayer.merge(player, count, Integer::sum));
+
+        if (sharedTileMembers.size() < other.sharedTileMembers.size()) {
+            List<Area> tmp = sharedTileMembers;
+            sharedTileMembers = other.sharedTileMembers;
+            other.sharedTileMembers = tmp;
+        }
+
+        sharedTileMembers.addAll(other.sharedTileMembers);
+        other.sharedTileMembers = new ArrayList<>();
+    }
+
+    /**
+     * Records how to restore the aggregates of both root areas before a merge.
+     *
+     * @param other The other root area.
+     */
+    private void recordMerge(Area other) {
+        int previousFreeEdges = freeEdges;
+        int previousNumTiles = numTiles;
+        int previousNumShields = numShields;
+        int previousNumMeeples = numMeeples;
+        HashMap<Player, Integer> previousNumMeeplesPerPlayer = new HashMap<>(numMeeplesPerPlayer);
+        List<Area> ownMembers = sharedTileMembers;
+        List<Area> otherMembers = other.sharedTileMembers;
+        int ownMembersSize = ownMembers.size();
+        int otherMembersSize = otherMembers.size();
+
+        registry.getJournal().record(() -> {
+            freeEdges = previousFreeEdges;
+            numTiles = previousNumTiles;
+            numShields = previousNumShields;
+            numMeeples = previousNumMeeples;
+            numMeeplesPerPlayer = previousNumMeeplesPerPlayer;
+
+            // The members were appended to one of the lists, so truncating restores both.
+            ownMembers.subList(ownMembersSize, ownMembers.size()).clear();
+            otherMembers.subList(otherMembersSize, otherMembers.size()).clear();
+            sharedTileMembers = ownMembers;
+            other.sharedTileMembers = otherMembers;
+        });
+    }
+
+    /**
+     * Gets whether this area is the first area of its base tile group in the given set.
+     *
+     * @param root The root area of the set.
+     * @return True if no previous area of the tile group is in the set, false otherwise.
+     */
+    private boolean isFirstOfTileIn(Area root) {
+        for (Area area : tileGroup) {
+            if (area == this) {
+                return true;
+            }
+
+            if (area.getRoot() == root) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the number of free edges of the base tile counted in both given sets.
+     *
+     * @param root1 The root area of the first set.
+     * @param root2 The root area of the second set.
+     * @return The number of free edges counted twice.
+     */
+    private int getSharedFreeEdges(Area root1, Area root2) {
+        int edgeMask1 = 0;
+        int edgeMask2 = 0;
+
+        for (Area area : tileGroup) {
+            Area root = area.getRoot();
+
+            if (root == root1) {
+                edgeMask1 |= area.edgeMask;
+            } else if (root == root2) {
+                edgeMask2 |= area.edgeMask;
+            }
+        }
+
+        int sharedEdgeMask = edgeMask1 & edgeMask2;
+
+        if (sharedEdgeMask == 0) {
+            return 0;
+        }
+
+        GameBoard board = getBoard();
+        Vector2 position = baseTile.getPosition();
+        int count = 0;
+
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+
+            if ((sharedEdgeMask & (1 << edge.ordinal())) != 0 && !board.hasTileAt(position.x() + offset.x(), position.y() + offset.y())) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets whether another area of the base tile group is in the given set.
+     *
+     * @param root The root area of the set.
+     * @return True if the base tile is in the set, false otherwise.
+     */
+    private boolean hasTileIn(Area root) {
+        for (Area area : tileGroup) {
+            if (area != this && area.getRoot() == root) {
+                return true;
+            }
         }
+
+        return false;
     }
 
     /**
@@ -53,6 +397,12 @@ public abstract class Area {
      * @return The list of chunks.
      */
     public Set<Chunk> getChunks() {
+        LinkedHashSet<Chunk> chunks = new LinkedHashSet<>();
+
+        for (Area member : getMembers()) {
+            chunks.addAll(member.ownChunks);
+        }
+
         return chunks;
     }
 
@@ -62,9 +412,34 @@ public abstract class Area {
      * @return The list of tiles.
      */
     public Set<Tile> getTiles() {
+        LinkedHashSet<Tile> tiles = new LinkedHashSet<>();
+
+        for (Area member : getMembers()) {
+            tiles.add(member.baseTile);
+        }
+
         return tiles;
     }
 
+    /**
+     * Gets the areas merged together with this area.
+     *
+     * @return The list of merged areas.
+     */
+    private List<Area> getMembers() {
+        if (registry == null) {
+            return List.of(this);
+        }
+
+        List<Area> members = new ArrayList<>();
+
+        for (int member = registry.find(id); member >= 0; member = registry.getNextMember(member)) {
+            members.add(registry.getArea(member));
+        }
+
+        return members;
+    }
+
     /**
      * Gets the area type.
      *
@@ -145,7 +520,7 @@ public abstract class Area {
      * @return The number of tiles in the area.
      */
     public int getNumTiles() {
-        return tiles.size();
+        return getRoot().numTiles;
     }
 
     /**
@@ -155,25 +530,39 @@ public abstract class Area {
      * @return The number of tiles in the area.
      */
     public int getNumTiles(TileFlags flag) {
-        return (int) tiles.stream().filter(t -> t.hasFlag(flag)).count();
+        if (flag == TileFlags.SHIELD) {
+            return getNumShields();
+        }
+
+        return (int) getTiles().stream().filter(t -> t.hasFlag(flag)).count();
+    }
+
+    /**
+     * Gets the number of tiles with a shield in the area.
+     *
+     * @return The number of shields in the area.
+     */
+    public int getNumShields() {
+        return getRoot().numShields;
     }
 
     /**
      * Merges two areas together.
+     * Both areas must be placed on the same board.
      *
      * @param other The other area to merge with.
+     * @return The area resulting from the merge.
      */
-    public void merge(Area other) {
+    public Area merge(Area other) {
         if (!canBeMerged(other)) {
             throw new IllegalArgumentException("Cannot merge areas of different types.");
         }
 
-        chunks.addAll(other.chunks);
-        tiles.addAll(other.tiles);
-
-        for (Chunk chunk : other.chunks) {
-            chunk.setArea(this);
+        if (registry == null || registry != other.registry) {
+            throw new IllegalStateException("Cannot merge areas that are not placed on the same board.");
         }
+
+        return registry.union(this, other);
     }
 
     /**
@@ -196,8 +585,19 @@ public abstract class Area {
      * @return True if the area is closed, false otherwise.
      */
     protected boolean checkClosed() {
+        return checkClosed(getFreeEdges());
+    }
+
+    /**
+     * Checks if the area is closed with the given number of free edges.
+     * By default, it is closed if there are no free tile edges.
+     *
+     * @param freeEdges The number of free edges of the area.
+     * @return True if the area is closed, false otherwise.
+     */
+    protected boolean checkClosed(int freeEdges) {
         /* By default, the area is closed if there is no free tile edge. */
-        return !hasFreeEdge();
+        return freeEdges == 0;
     }
 
     /**
@@ -206,7 +606,11 @@ public abstract class Area {
      * @return The remaining tile edges.
      */
     public int getFreeEdges() {
-        return getFreeEdges(tiles, chunks);
+        if (registry != null) {
+            return getRoot().freeEdges;
+        }
+
+        return getFreeEdges(getTiles(), getChunks());
     }
 
     /**
@@ -215,30 +619,87 @@ public abstract class Area {
      * @return The remaining tile edges.
      */
     public int getFreeEdges(Area simulatedMergingArea) {
-        Set<Tile> tilesTmp = new HashSet<>(this.tiles);
-        Set<Chunk> chunksTmp = new HashSet<>(this.chunks);
+        Tile tile = simulatedMergingArea.baseTile;
+
+        if (registry == null || simulatedMergingArea.registry != null || tile.getPosition() == null) {
+            Set<Tile> tilesTmp = getTiles();
+            Set<Chunk> chunksTmp = getChunks();
+
+            tilesTmp.addAll(simulatedMergingArea.getTiles());
+            chunksTmp.addAll(simulatedMergingArea.getChunks());
+
+            return getFreeEdges(tilesTmp, chunksTmp);
+        }
+
+        /* The tile to place is not on the board, only the edges around it change. */
+        Area root = getRoot();
+        GameBoard board = getBoard();
+        Vector2 position = tile.getPosition();
+        int tileEdgeMask = simulatedMergingArea.computeEdgeMask();
+        int freeEdges = root.freeEdges;
+
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+            Tile neighbor = board.getTileAt(position.x() + offset.x(), position.y() + offset.y());
+            boolean neighborInArea = false;
+
+            if (neighbor != null) {
+                for (ChunkId chunkId : edge.getOppositeChunkIds()) {
+                    if (neighbor.getChunk(chunkId).getArea() == root) {
+                        // The free edge of the neighbour is used by the tile.
+                        neighborInArea = true;
+                        freeEdges--;
+                        break;
+                    }
+                }
+
+                neighborInArea = neighborInArea || root.hasTile(neighbor);
+            }
 
-        tilesTmp.addAll(simulatedMergingArea.tiles);
-        chunksTmp.addAll(simulatedMergingArea.chunks);
+            if ((tileEdgeMask & (1 << edge.ordinal())) != 0 && !neighborInArea) {
+                freeEdges++;
+            }
+        }
 
-        return getFreeEdges(tilesTmp, chunksTmp);
+        return freeEdges;
     }
 
     /**
-     * Gets whether remaining tile edges can be used to continue the area.
+     * Gets whether the area would be closed if we merge the given area of the tile to place.
      *
-     * @return True if there are remaining tile edges, false otherwise.
+     * @param simulatedMergingArea The area of the tile to place.
+     * @return True if the area would be closed, false otherwise.
      */
-    private boolean hasFreeEdge() {
-        return getFreeEdges() >= 1;
+    public boolean isClosedAfterMerge(Area simulatedMergingArea) {
+        return checkClosed(getFreeEdges(simulatedMergingArea));
     }
 
     /**
      * Called when the area is closed.
      */
     protected void onClosed() {
+        recordClosureFlags();
         closed = true;
         waitingClosingEvaluation = true;
+
+        if (registry != null) {
+            getBoard().onAreaClosed(this);
+        }
+    }
+
+    /**
+     * Records how to restore the closure flags of the area.
+     */
+    private void recordClosureFlags() {
+        if (registry != null && registry.getJournal().isRecording()) {
+            boolean previousClosed = closed;
+            boolean previousWaitingClosingEvaluation = waitingClosingEvaluation;
+
+            registry.getJournal().record(() -> {
+                closed = previousClosed;
+                waitingClosingEvaluation = previousWaitingClosingEvaluation;
+            });
+        }
     }
 
     /**
@@ -260,6 +721,7 @@ public abstract class Area {
             throw new IllegalStateException("Cannot evaluate the area closing points if the area is not waiting for the closing evaluation.");
         }
 
+        recordClosureFlags();
         waitingClosingEvaluation = false;
         evaluateClosePoints();
     }
@@ -277,10 +739,8 @@ public abstract class Area {
         }
 
         /* As the area evaluation is done, we can remove the meeples in the area. */
-        for (Chunk chunk : chunks) {
-            if (chunk.hasMeeple()) {
-                RemoveMeepleCommand.removeMeeple(chunk);
-            }
+        for (Chunk chunk : getMeepleChunks()) {
+            RemoveMeepleCommand.removeMeeple(chunk);
         }
     }
 
@@ -303,22 +763,29 @@ public abstract class Area {
      * @return The player list.
      */
     public List<Player> getEvaluationWinners() {
-        /* Get all meeples from chunks */
-        List<Meeple> meeples = getMeeples();
+        Map<Player, Integer> numMeeplesPerPlayer = getRoot().numMeeplesPerPlayer;
 
         /* If there is no meeples in the area, there is no winner. */
-        if (meeples.isEmpty()) {
+        if (numMeeplesPerPlayer.isEmpty()) {
             return new ArrayList<>();
         }
 
-        /* Map the number of meeples by the player instance */
-        Map<Player, Integer> numMeeplesPerPlayer = meeples.stream().collect(Collectors.groupingBy(Meeple::getOwner, Collectors.summingInt(c -> 1)));
+        /* Get the players who have the highest number of meeples */
+        List<Player> winners = new ArrayList<>(numMeeplesPerPlayer.size());
+        int highestNumMeeples = 0;
 
-        /* Get the highest number of meeples */
-        int highestNumMeeples = numMeeplesPerPlayer.values().stream().max(Integer::compareTo).orElse(0);
+        for (Map.Entry<Player, Integer> entry : numMeeplesPerPlayer.entrySet()) {
+            if (entry.getValue() > highestNumMeeples) {
+                highestNumMeeples = entry.getValue();
+                winners.clear();
+            }
 
-        /* Get the players who have the highest number of meeples */
-        return numMeeplesPerPlayer.entrySet().stream().filter(e -> e.getValue() == highestNumMeeples).map(Map.Entry::getKey).toList();
+            if (entry.getValue() == highestNumMeeples) {
+                winners.add(entry.getKey());
+            }
+        }
+
+        return winners;
     }
 
     /**
@@ -331,6 +798,19 @@ public abstract class Area {
         stream.writeBoolean(waitingClosingEvaluation);
     }
 
+    /**
+     * Checks whether the encoded state of the area changed since the given earlier state of the area.
+     *
+     * @param previousArea The earlier state of the area, or null if the area did not exist and was open.
+     * @return True if the closure flags changed, false otherwise.
+     */
+    public boolean hasStateChangedSince(Area previousArea) {
+        boolean wasClosed = previousArea != null && previousArea.closed;
+        boolean wasWaitingClosingEvaluation = previousArea != null && previousArea.waitingClosingEvaluation;
+
+        return closed != wasClosed || waitingClosingEvaluation != wasWaitingClosingEvaluation;
+    }
+
     /**
      * Decodes the area from the given stream.
      *
@@ -347,7 +827,36 @@ public abstract class Area {
      * @return The list of meeples.
      */
     public List<Meeple> getMeeples() {
-        return chunks.stream().filter(Chunk::hasMeeple).map(Chunk::getMeeple).toList();
+        return getMeepleChunks().stream().map(Chunk::getMeeple).toList();
+    }
+
+    /**
+     * Gets the chunks of the area holding a meeple.
+     * Once placed, they are found from the meeple index of the board instead of walking every chunk.
+     *
+     * @return The chunks holding a meeple.
+     */
+    public List<Chunk> getMeepleChunks() {
+        if (!hasMeeple()) {
+            return List.of();
+        }
+
+        if (registry == null) {
+            return getChunks().stream().filter(Chunk::hasMeeple).toList();
+        }
+
+        Area root = getRoot();
+        List<Chunk> meepleChunks = new ArrayList<>(root.numMeeples);
+
+        for (Set<Chunk> playerChunks : baseTile.getGame().getBoard().getMeepleChunks()) {
+            for (Chunk chunk : playerChunks) {
+                if (chunk.getArea() == root) {
+                    meepleChunks.add(chunk);
+                }
+            }
+        }
+
+        return meepleChunks;
     }
 
     /**
@@ -356,12 +865,31 @@ public abstract class Area {
      * @return True if the area has one or more meeples, false otherwise.
      */
     public boolean hasMeeple() {
-        for (Chunk chunk : chunks) {
-            if (chunk.hasMeeple()) {
-                return true;
-            }
-        }
-        return false;
+        return getRoot().numMeeples > 0;
+    }
+
+    /**
+     * Called when a meeple is placed on a chunk of the area.
+     *
+     * @param meeple The meeple placed.
+     */
+    public void onMeeplePlaced(Meeple meeple) {
+        Area root = getRoot();
+
+        root.numMeeples++;
+        root.numMeeplesPerPlayer.merge(meeple.getOwner(), 1, Integer::sum);
+    }
+
+    /**
+     * Called when a meeple is removed from a chunk of the area.
+     *
+     * @param meeple The meeple removed.
+     */
+    public void onMeepleRemoved(Meeple meeple) {
+        Area root = getRoot();
+
+        root.numMeeples--;
+        root.numMeeplesPerPlayer.computeIfPresent(meeple.getOwner(), (player, count) -> count > 1 ? count - 1 : null);
     }
 
     /**
@@ -371,7 +899,33 @@ public abstract class Area {
      * @return True if the area has the given tile, false otherwise.
      */
     public boolean hasTile(Tile tile) {
-        return tiles.contains(tile);
+        Area root = getRoot();
+
+        for (Area area : tile.getAreas()) {
+            if (area == root) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets whether one of the given chunks is on the given edge of the tile.
+     *
+     * @param tile   The tile.
+     * @param edge   The edge of the tile.
+     * @param chunks The chunks to look for.
+     * @return True if a chunk of the edge is in the chunks, false otherwise.
+     */
+    private static boolean hasChunkOnEdge(Tile tile, Direction edge, Set<Chunk> chunks) {
+        for (ChunkId chunkId : edge.getChunkIds()) {
+            if (chunks.contains(tile.getChunk(chunkId))) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -383,12 +937,12 @@ public abstract class Area {
         int count = 0;
 
         for (Tile tile : tiles) {
-            for (Direction edge : Direction.values()) {
+            for (Direction edge : Direction.getValues()) {
                 // Check if we have a chunk from this tile that is on this edge.
-                if (Arrays.stream(edge.getChunkIds()).map(tile::getChunk).anyMatch(chunks::contains)) {
-                    Vector2 edgePos = tile.getPosition().add(edge.value());
+                if (hasChunkOnEdge(tile, edge, chunks)) {
+                    Vector2 offset = edge.value();
 
-                    if (tiles.stream().noneMatch(t -> t.getPosition().equals(edgePos))) {
+                    if (!containsTileAt(tiles, tile.getPosition().x() + offset.x(), tile.getPosition().y() + offset.y())) {
                         // We can continue on this edge -> not closed.
                         count++;
                     }
@@ -398,4 +952,24 @@ public abstract class Area {
 
         return count;
     }
+
+    /**
+     * Gets whether one of the given tiles is at the given position.
+     *
+     * @param tiles The tiles.
+     * @param x     The x position.
+     * @param y     The y position.
+     * @return True if a tile is at the given position, false otherwise.
+     */
+    protected static boolean containsTileAt(Set<Tile> tiles, int x, int y) {
+        for (Tile tile : tiles) {
+            Vector2 position = tile.getPosition();
+
+            if (position.x() == x && position.y() == y) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,350 @@
+package logic.tile.area;
+
+import logic.GameJournal;
+import logic.board.GameBoard;
+import logic.math.Vector2;
+import logic.player.Player;
+import logic.tile.Direction;
+import logic.tile.Tile;
+import logic.tile.chunk.ChunkId;
+import logic.tile.chunk.ChunkType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Disjoint-set of the areas placed on a board.
+ * Each area placed on the board gets an integer id, merged areas are linked
+ * to a root area (union by size, path compression) which holds the aggregates
+ * of the whole set.
+ */
+public class AreaRegistry {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int NO_AREA = -1;
+
+    private Area[] areas;
+    private int[] parents;
+    private int[] sizes;
+
+    /**
+     * Linked list of the members of each set, so a root can walk its members
+     * without copying them on each merge.
+     */
+    private int[] nextMembers;
+    private int[] lastMembers;
+
+    private int count;
+
+    /**
+     * Journal of the game, the registrations and merges are recorded so they can be unmade.
+     */
+    private final GameJournal journal;
+
+    public AreaRegistry(GameJournal journal) {
+        this.journal = journal;
+        areas = new Area[DEFAULT_CAPACITY];
+        parents = new int[DEFAULT_CAPACITY];
+        sizes = new int[DEFAULT_CAPACITY];
+        nextMembers = new int[DEFAULT_CAPACITY];
+        lastMembers = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Gets the journal the changes of the registry are recorded in.
+     *
+     * @return the game journal
+     */
+    GameJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Clears the registry.
+     */
+    public void clear() {
+        Arrays.fill(areas, 0, count, null);
+        count = 0;
+    }
+
+    /**
+     * Copies the given registry, the tiles of the given board must be copies of the tiles of the other registry.
+     *
+     * @param registry the registry to copy
+     * @param board    the board with the copied tiles
+     * @param players  the copied players, by original player
+     */
+    public void copyFrom(AreaRegistry registry, GameBoard board, Map<Player, Player> players) {
+        int capacity = registry.areas.length;
+
+        areas = new Area[capacity];
+        parents = Arrays.copyOf(registry.parents, capacity);
+        sizes = Arrays.copyOf(registry.sizes, capacity);
+        nextMembers = Arrays.copyOf(registry.nextMembers, capacity);
+        lastMembers = Arrays.copyOf(registry.lastMembers, capacity);
+        count = registry.count;
+
+        for (int i = 0; i < count; i++) {
+            areas[i] = registry.areas[i].findCopy(board);
+        }
+
+        for (int i = 0; i < count; i++) {
+            areas[i].copyFrom(registry.areas[i], this, players);
+        }
+    }
+
+    /**
+     * Called when a tile is placed on the board, before its areas are merged.
+     * Updates the free edges of the areas around the tile and registers the areas of the tile.
+     *
+     * @param tile the tile placed
+     */
+    public void onTilePlaced(Tile tile) {
+        GameBoard board = tile.getGame().getBoard();
+        Vector2 position = tile.getPosition();
+
+        /* The edges of the neighbours facing the tile are not free anymore. */
+        for (Direction edge : Direction.getValues()) {
+            Vector2 offset = edge.value();
+            Tile neighbor = board.getTileAt(position.x() + offset.x(), position.y() + offset.y());
+
+            if (neighbor != null) {
+                Area firstArea = null;
+                Area secondArea = null;
+
+                for (ChunkId chunkId : edge.getOppositeChunkIds()) {
+                    Area area = neighbor.getChunk(chunkId).getArea();
+
+                    // Each area counts the edge of the neighbour only once.
+                    if (area == firstArea || area == secondArea) {
+                        continue;
+                    }
+
+                    if (firstArea == null) {
+                        firstArea = area;
+                    } else {
+                        secondArea = area;
+                    }
+
+                    // A non-mergeable area can not continue on the tile, so its edge stays free.
+                    if (area.canBeMerged(area)) {
+                        area.onFreeEdgeUsed();
+                    }
+                }
+            }
+        }
+
+        /* The abbeys around the tile have one more neighbour. */
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                Tile neighbor = i == 0 && j == 0 ? null : board.getTileAt(position.x() + i, position.y() + j);
+
+                if (neighbor != null) {
+                    Area area = neighbor.getChunk(ChunkId.CENTER_MIDDLE).getArea();
+
+                    if (area.getType() == ChunkType.ABBEY) {
+                        area.onFreeEdgeUsed();
+                    }
+                }
+            }
+        }
+
+        register(tile.getAreas(), board);
+    }
+
+    /**
+     * Registers the areas of a tile placed on the board.
+     * The areas of the same type are linked together as they share the same tile.
+     *
+     * @param tileAreas the areas of the tile
+     * @param board     the board the tile is placed on
+     */
+    private void register(List<Area> tileAreas, GameBoard board) {
+        for (Area area : tileAreas) {
+            if (area.getRegistry() != null) {
+                throw new IllegalArgumentException("The area is already registered.");
+            }
+
+            List<Area> tileGroup = tileAreas.stream().filter(a -> a.getType() == area.getType()).toList();
+            area.onRegistered(this, register(area), tileGroup, board);
+        }
+
+        journal.record(() -> unregister(tileAreas));
+    }
+
+    /**
+     * Registers the given area.
+     *
+     * @param area the area to register
+     * @return the id of the area
+     */
+    private int register(Area area) {
+        if (count == areas.length) {
+            grow();
+        }
+
+        int id = count++;
+        areas[id] = area;
+        parents[id] = id;
+        sizes[id] = 1;
+        nextMembers[id] = NO_AREA;
+        lastMembers[id] = id;
+
+        return id;
+    }
+
+    /**
+     * Unregisters the areas of a tile, when its placement is unmade.
+     * The areas must be the last registered and must not be merged anymore.
+     *
+     * @param tileAreas the areas of the tile
+     */
+    private void unregister(List<Area> tileAreas) {
+        for (Area area : tileAreas) {
+            count--;
+            areas[count] = null;
+            area.onUnregistered();
+        }
+    }
+
+    /**
+     * Doubles the capacity of the registry.
+     */
+    private void grow() {
+        int capacity = areas.length * 2;
+
+        areas = Arrays.copyOf(areas, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        nextMembers = Arrays.copyOf(nextMembers, capacity);
+        lastMembers = Arrays.copyOf(lastMembers, capacity);
+    }
+
+    /**
+     * Gets the number of areas registered.
+     *
+     * @return the number of areas registered
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the area registered with the given id.
+     *
+     * @param id the area id
+     * @return the area
+     */
+    public Area getArea(int id) {
+        return areas[id];
+    }
+
+    /**
+     * Finds the root id of the set containing the given id.
+     *
+     * @param id the area id
+     * @return the root id
+     */
+    public int find(int id) {
+        int root = id;
+
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+
+        // The compressed paths could not be restored when a merge is unmade.
+        if (journal.getMoveCount() > 0) {
+            return root;
+        }
+
+        while (parents[id] != root) {
+            int parent = parents[id];
+            parents[id] = root;
+            id = parent;
+        }
+
+        return root;
+    }
+
+    /**
+     * Finds the root area of the set containing the given area.
+     *
+     * @param area the area
+     * @return the root area
+     */
+    public Area find(Area area) {
+        return areas[find(area.getId())];
+    }
+
+    /**
+     * Gets the id of the next member of the set after the given id.
+     *
+     * @param id the area id
+     * @return the id of the next member, or a negative value if there is none
+     */
+    public int getNextMember(int id) {
+        return nextMembers[id];
+    }
+
+    /**
+     * Merges the sets containing the two given areas.
+     *
+     * @param area1 the first area
+     * @param area2 the second area
+     * @return the root area of the merged set
+     */
+    public Area union(Area area1, Area area2) {
+        int root1 = find(area1.getId());
+        int root2 = find(area2.getId());
+
+        if (root1 == root2) {
+            return areas[root1];
+        }
+
+        // The smallest set is linked to the biggest one.
+        if (sizes[root1] < sizes[root2]) {
+            int tmp = root1;
+            root1 = root2;
+            root2 = tmp;
+        }
+
+        Area root = areas[root1];
+        root.onMerged(areas[root2]);
+
+        int biggestRoot = root1;
+        int linkedRoot = root2;
+        int previousLastMember = lastMembers[root1];
+
+        journal.record(() -> {
+            parents[linkedRoot] = linkedRoot;
+            sizes[biggestRoot] -= sizes[linkedRoot];
+            nextMembers[previousLastMember] = NO_AREA;
+            lastMembers[biggestRoot] = previousLastMember;
+        });
+
+        parents[root2] = root1;
+        sizes[root1] += sizes[root2];
+        nextMembers[lastMembers[root1]] = root2;
+        lastMembers[root1] = lastMembers[root2];
+
+        return root;
+    }
+
+    /**
+     * Gets the root areas of all the sets.
+     *
+     * @return the list of root areas, in registration order
+     */
+    public List<Area> getRoots() {
+        List<Area> roots = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            if (parents[i] == i) {
+                roots.add(areas[i]);
+            }
+        }
+
+        return roots;
+    }
+}
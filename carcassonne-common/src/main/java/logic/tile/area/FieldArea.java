@@ -1,14 +1,25 @@
 package logic.tile.area;
 
+import logic.board.GameBoard;
+import logic.player.Player;
 import logic.tile.Tile;
 import logic.tile.chunk.Chunk;
 import logic.tile.chunk.ChunkId;
 import logic.tile.chunk.ChunkType;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 public class FieldArea extends Area {
+    /**
+     * Town areas in contact with the field on each of its tiles, as registered.
+     * Only maintained on the root area, the merged fields append their towns.
+     */
+    private List<Area> adjacentTowns;
+
     /**
      * Constructor for the area.
      *
@@ -16,6 +27,7 @@ public class FieldArea extends Area {
      */
     public FieldArea(List<Chunk> chunks) {
         super(chunks);
+        adjacentTowns = new ArrayList<>();
     }
 
     /**
@@ -58,27 +70,90 @@ public class FieldArea extends Area {
     public int getOpenPoints() {
         HashSet<Area> closedTownAreas = new HashSet<>();
 
-        for (Tile tile : getTiles()) {
-            for (ChunkId chunkId : ChunkId.values()) {
-                Chunk chunk = tile.getChunk(chunkId);
-                Area area = chunk.getArea();
+        for (Area town : getAdjacentTowns()) {
+            Area root = town.getRoot();
+
+            if (root.isClosed()) {
+                closedTownAreas.add(root);
+            }
+        }
+
+        // We earn 3 points for each closed town areas in contact with the field area.
+        return closedTownAreas.size() * 3;
+    }
+
+    /**
+     * Gets the town areas in contact with the field, on each of its tiles.
+     * The same town can appear several times, and the towns may have been merged since.
+     *
+     * @return The adjacent town areas.
+     */
+    public List<Area> getAdjacentTowns() {
+        if (getRegistry() == null) {
+            return findTileAdjacentTowns();
+        }
+
+        return Collections.unmodifiableList(((FieldArea) getRoot()).adjacentTowns);
+    }
 
-                if (area.getType() == ChunkType.TOWN) {
-                    /* Now we found a town in the tile, we need to check if the town is in contact with this area. */
-                    for (ChunkId neighborChunkId : chunk.getCurrentId().getNeighbours()) {
-                        Chunk neighborChunk = tile.getChunk(neighborChunkId);
+    /**
+     * Finds the town areas of the base tile in contact with this field.
+     *
+     * @return The adjacent town areas of the base tile.
+     */
+    private List<Area> findTileAdjacentTowns() {
+        Tile tile = getBaseTile();
+        List<Area> towns = new ArrayList<>();
 
-                        if (neighborChunk.getArea() == this) {
-                            closedTownAreas.add(neighborChunk.getArea());
-                            break;
-                        }
+        for (ChunkId chunkId : ChunkId.getValues()) {
+            Chunk chunk = tile.getChunk(chunkId);
+            Area area = chunk.getArea();
+
+            if (area.getType() == ChunkType.TOWN && !towns.contains(area)) {
+                /* Now we found a town in the tile, we need to check if the town is in contact with this area. */
+                for (ChunkId neighborChunkId : chunk.getCurrentId().getNeighbours()) {
+                    if (tile.getChunk(neighborChunkId).getArea() == this) {
+                        towns.add(area);
+                        break;
                     }
                 }
             }
         }
 
-        // We earn 3 points for each closed town areas in contact with the field area.
-        return closedTownAreas.size() * 3;
+        return towns;
+    }
+
+    @Override
+    void onRegistered(AreaRegistry registry, int id, List<Area> tileGroup, GameBoard board) {
+        super.onRegistered(registry, id, tileGroup, board);
+        adjacentTowns = findTileAdjacentTowns();
+    }
+
+    @Override
+    void onUnregistered() {
+        super.onUnregistered();
+        adjacentTowns = new ArrayList<>();
+    }
+
+    @Override
+    void onMerged(Area other) {
+        super.onMerged(other);
+
+        List<Area> towns = adjacentTowns;
+        int size = towns.size();
+
+        getRegistry().getJournal().record(() -> towns.subList(size, towns.size()).clear());
+        towns.addAll(((FieldArea) other).adjacentTowns);
+    }
+
+    @Override
+    void copyFrom(Area area, AreaRegistry registry, Map<Player, Player> players) {
+        super.copyFrom(area, registry, players);
+        adjacentTowns = new ArrayList<>(((FieldArea) area).adjacentTowns.size());
+
+        for (Area town : ((FieldArea) area).adjacentTowns) {
+            adjacentTowns.add(registry.getArea(town.getId()));
+        }
     }
 
     /**
@@ -57,13 +57,14 @@ public class RoadEndArea extends Area {
     }
 
     /**
-     * Checks if the area is closed.
-     * By default, it is closed if there are no free tile edges.
+     * Checks if the area is closed with the given number of free edges.
+     * A road end is never closed.
      *
+     * @param freeEdges The number of free edges of the area.
      * @return True if the area is closed, false otherwise.
      */
     @Override
-    protected boolean checkClosed() {
+    protected boolean checkClosed(int freeEdges) {
         return false;
     }
 }
@@ -1,6 +1,5 @@
 package logic.tile.area;
 
-import logic.tile.TileFlags;
 import logic.tile.chunk.Chunk;
 import logic.tile.chunk.ChunkType;
 
@@ -45,7 +44,7 @@ public class TownArea extends Area {
     @Override
     public int getClosingPoints() {
         int numTiles = getNumTiles();
-        int numShields = getNumTiles(TileFlags.SHIELD);
+        int numShields = getNumShields();
 
         return 2 * numTiles + 2 * numShields;
     }
@@ -57,6 +56,6 @@ public class TownArea extends Area {
      */
     @Override
     public int getOpenPoints() {
-        return getNumTiles() + getNumTiles(TileFlags.SHIELD);
+        return getNumTiles() + getNumShields();
     }
 }
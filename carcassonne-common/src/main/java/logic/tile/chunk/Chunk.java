@@ -1,11 +1,15 @@
 package logic.tile.chunk;
 
+import logic.board.GameBoard;
 import logic.meeple.Meeple;
+import logic.player.Player;
 import logic.tile.Tile;
 import logic.tile.area.Area;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
 
+import java.util.Map;
+
 /**
  * Represents a chunk of tiles.
  * A chunk is a part of tile grid.
@@ -14,7 +18,11 @@ public class Chunk {
     private final Tile parent;
     private final ChunkType type;
 
-    private ChunkId currentId;
+    /**
+     * Id of the chunk when the tile is not rotated.
+     * The current id is derived from the rotation of the parent tile.
+     */
+    private ChunkId id;
     private Meeple meeple;
     private Area area;
 
@@ -38,16 +46,16 @@ public class Chunk {
      * @return The current chunk id.
      */
     public ChunkId getCurrentId() {
-        return currentId;
+        return parent != null ? id.rotate(parent.getRotation()) : id;
     }
 
     /**
-     * Sets the current chunk id.
+     * Sets the current chunk id, with the current rotation of the parent tile.
      *
      * @param id The new chunk id.
      */
     public void setCurrentId(ChunkId id) {
-        this.currentId = id;
+        this.id = parent != null ? id.unrotate(parent.getRotation()) : id;
     }
 
     /**
@@ -65,16 +73,41 @@ public class Chunk {
      * @param meeple The meeple to set.
      */
     public void setMeeple(Meeple meeple) {
+        if (parent != null && parent.getGame() != null && parent.getGame().getJournal().isRecording()) {
+            Meeple previousMeeple = this.meeple;
+            parent.getGame().getJournal().record(() -> setMeeple(previousMeeple));
+        }
+
+        /* The meeples of the tiles on the board are indexed by the board. */
+        GameBoard board = area != null && area.getRegistry() != null ? parent.getGame().getBoard() : null;
+
+        if (area != null && this.meeple != null) {
+            area.onMeepleRemoved(this.meeple);
+
+            if (board != null) {
+                board.onMeepleRemoved(this, this.meeple);
+            }
+        }
+
         this.meeple = meeple;
+
+        if (area != null && meeple != null) {
+            area.onMeeplePlaced(meeple);
+
+            if (board != null) {
+                board.onMeeplePlaced(this);
+            }
+        }
     }
 
     /**
      * Gets the chunk area of this chunk.
+     * If the chunk area has been merged, the resulting area is returned.
      *
      * @return The chunk area of this chunk.
      */
     public Area getArea() {
-        return area;
+        return area == null ? null : area.getRoot();
     }
 
     /**
@@ -114,6 +147,16 @@ public class Chunk {
         return type;
     }
 
+    /**
+     * Copies the meeple of the given chunk, with the owner replaced by its copy.
+     *
+     * @param chunk   The chunk to copy.
+     * @param players The copied players, by original player.
+     */
+    public void copyFrom(Chunk chunk, Map<Player, Player> players) {
+        setMeeple(chunk.meeple != null ? new Meeple(players.get(chunk.meeple.getOwner())) : null);
+    }
+
     /**
      * Encodes this chunk attributes into the given stream.
      *
@@ -122,7 +165,7 @@ public class Chunk {
     public void encode(ByteOutputStream stream) {
         if (meeple != null) {
             stream.writeBoolean(true);
-            stream.writeInt(meeple.getOwner().getId());
+            stream.writeCompactInt(meeple.getOwner().getId());
         } else {
             stream.writeBoolean(false);
         }
@@ -135,9 +178,9 @@ public class Chunk {
      */
     public void decode(ByteInputStream stream) {
         if (stream.readBoolean()) {
-            meeple = new Meeple(parent.getGame().getPlayerById(stream.readInt()));
+            setMeeple(new Meeple(parent.getGame().getPlayerById(stream.readCompactInt())));
         } else {
-            meeple = null;
+            setMeeple(null);
         }
     }
 
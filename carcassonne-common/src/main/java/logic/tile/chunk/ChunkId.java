@@ -1,6 +1,7 @@
 package logic.tile.chunk;
 
 import logic.tile.Direction;
+import logic.tile.TileRotation;
 
 import java.util.Arrays;
 
@@ -73,12 +74,66 @@ public enum ChunkId {
      */
     CENTER_MIDDLE(null);
 
+    /**
+     * Number of chunk ids.
+     */
+    public static final int NUM_CHUNKS = values().length;
+
+    /**
+     * Chunk ids, shared to avoid the copy made by {@link #values()}.
+     */
+    private static final ChunkId[] VALUES = values();
+
+    /**
+     * Chunk ids around each chunk id, computed once as they never change.
+     */
+    private static final ChunkId[][] NEIGHBOURS = new ChunkId[values().length][];
+
+    static {
+        ChunkId[] ids = values();
+        int numEdgeChunks = ids.length - 1;
+
+        for (ChunkId id : ids) {
+            NEIGHBOURS[id.ordinal()] = id == CENTER_MIDDLE ? Arrays.copyOf(ids, numEdgeChunks) : new ChunkId[]{
+                    ids[Math.floorMod(id.ordinal() - 1, numEdgeChunks)],
+                    ids[(id.ordinal() + 1) % numEdgeChunks],
+            };
+        }
+    }
+
+    /**
+     * Chunk ids after each number of clockwise quarter turns, by chunk id.
+     * The edge chunks move by 3 positions on each quarter turn, the center does not move.
+     */
+    private static final ChunkId[][] ROTATIONS = new ChunkId[TileRotation.NUM_ROTATIONS][values().length];
+
+    static {
+        ChunkId[] ids = values();
+        int numEdgeChunks = ids.length - 1;
+
+        for (int rotation = 0; rotation < TileRotation.NUM_ROTATIONS; rotation++) {
+            for (ChunkId id : ids) {
+                ROTATIONS[rotation][id.ordinal()] = id == CENTER_MIDDLE ? id : ids[(id.ordinal() + rotation * 3) % numEdgeChunks];
+            }
+        }
+    }
+
     private final Direction edge;
 
     ChunkId(Direction edge) {
         this.edge = edge;
     }
 
+    /**
+     * Returns all the chunk ids.
+     * The returned array is shared and must not be modified.
+     *
+     * @return the chunk ids
+     */
+    public static ChunkId[] getValues() {
+        return VALUES;
+    }
+
     /**
      * Gets the edge of the tile.
      *
@@ -88,15 +143,33 @@ public enum ChunkId {
         return edge;
     }
 
+    /**
+     * Gets the id of this chunk once the tile is rotated with the given rotation.
+     *
+     * @param rotation The rotation of the tile.
+     * @return The rotated chunk id.
+     */
+    public ChunkId rotate(TileRotation rotation) {
+        return ROTATIONS[rotation.ordinal()][ordinal()];
+    }
+
+    /**
+     * Gets the id this chunk had before the tile was rotated with the given rotation.
+     *
+     * @param rotation The rotation of the tile.
+     * @return The chunk id before the rotation.
+     */
+    public ChunkId unrotate(TileRotation rotation) {
+        return ROTATIONS[(TileRotation.NUM_ROTATIONS - rotation.ordinal()) % TileRotation.NUM_ROTATIONS][ordinal()];
+    }
+
     /**
      * Returns the chunk ids for chunks around the current chunk.
+     * The returned array is shared and must not be modified.
      *
      * @return Chunk ids for chunks around the current chunk.
      */
     public ChunkId[] getNeighbours() {
-        return this == CENTER_MIDDLE ? Arrays.stream(ChunkId.values()).filter(v -> v != CENTER_MIDDLE).toArray(ChunkId[]::new) : new ChunkId[]{
-                values()[Math.floorMod((this.ordinal() - 1), (ChunkId.values().length - 1))],
-                values()[(ordinal() + 1) % (values().length - 1)],
-        };
+        return NEIGHBOURS[ordinal()];
     }
 }
@@ -6,6 +6,7 @@ import network.message.MessageType;
 import network.util.Crc32;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
+import stream.StreamVersion;
 
 /**
  * Packet class. Contains the message header (type, length crc) and the encoded message data.
@@ -62,11 +63,45 @@ public class Packet {
      * @return the packet
      */
     public static Packet create(IMessage message) {
-        ByteOutputStream stream = new ByteOutputStream(20);
+        return create(message, StreamVersion.LEGACY);
+    }
+
+    /**
+     * Creates a packet from the given message, encoded with the given stream version.
+     *
+     * @param message the message to create the packet from
+     * @param version the {@link StreamVersion} negotiated with the peer
+     * @return the packet
+     */
+    public static Packet create(IMessage message, int version) {
+        ByteOutputStream stream = new ByteOutputStream(20, version);
         message.encode(stream);
         return new Packet(message.getType(), Crc32.getCrc(stream.getBytes(), 0, stream.getLength()), stream.getLength(), stream.getBytes());
     }
 
+    /**
+     * Encodes the given message as a whole packet into the given stream, in a single pass.
+     * The message is encoded directly after the header, whose length and checksum are written once the message is known.
+     *
+     * @param message the message to encode
+     * @param stream  the stream to write to, its version is used to encode the message
+     */
+    public static void encode(IMessage message, ByteOutputStream stream) {
+        int start = stream.getLength();
+
+        stream.writeInt(HEADER_MAGIC);
+        stream.writeInt(message.getType().getValue());
+        stream.writeInt(0);
+        stream.writeInt(0);
+        message.encode(stream);
+
+        int messageLength = stream.getLength() - start - 16;
+
+        stream.writeIntAt(start + 8, Crc32.getCrc(stream.getBytes(), start + 16, messageLength));
+        stream.writeIntAt(start + 12, messageLength);
+        stream.writeInt(TRAILER_MAGIC);
+    }
+
     /**
      * Decodes the packet from the given stream
      *
@@ -140,9 +175,19 @@ public class Packet {
      * @return the message
      */
     public IMessage getMessage() {
+        return getMessage(StreamVersion.LEGACY);
+    }
+
+    /**
+     * Creates and returns the message from the packet, decoded with the given stream version.
+     *
+     * @param version the {@link StreamVersion} negotiated with the peer
+     * @return the message
+     */
+    public IMessage getMessage(int version) {
         IMessage message = MessageFactory.create(type);
         assert message != null;
-        message.decode(new ByteInputStream(messageData, messageLength));
+        message.decode(new ByteInputStream(messageData, messageLength, version));
         return message;
     }
 
@@ -1,5 +1,7 @@
 package network;
 
+import stream.ByteOutputStream;
+
 /**
  * A resizable byte buffer with an initial size and a maximum size.
  */
@@ -51,6 +53,33 @@ public class ResizableByteBuffer {
         this.index += length;
     }
 
+    /**
+     * Opens a stream writing at the end of the buffer, so data can be encoded in place without intermediate copy.
+     * The data written is only added to the buffer once the stream is committed.
+     *
+     * @param version The stream version of the data.
+     * @return The stream.
+     */
+    public ByteOutputStream openStream(int version) {
+        return new ByteOutputStream(this.buffer, this.index, version);
+    }
+
+    /**
+     * Adds the data written in a stream opened by {@link #openStream(int)} to the buffer.
+     * No other data must be put into the buffer between the opening of the stream and its commit.
+     *
+     * @param stream The stream to commit.
+     */
+    public void commit(ByteOutputStream stream) {
+        if (stream.getLength() > this.maxSize) {
+            throw new IllegalArgumentException("Buffer too large");
+        }
+
+        /* The stream may have replaced the buffer by a larger copy. */
+        this.buffer = stream.getBytes();
+        this.index = stream.getLength();
+    }
+
     /**
      * Resizes the buffer to the given size.
      *
@@ -24,7 +24,9 @@ public enum MessageType {
     GAME_COMMAND_REQUEST(121, GameCommandRequestMessage.class),
     GAME_COMMAND(221, GameCommandMessage.class),
     GAME_RESULT(222, GameResultMessage.class),
-    GAME_MASTER_NEXT_TURN_DATA(223, GameMasterNextTurnDataMessage.class);
+    GAME_MASTER_NEXT_TURN_DATA(223, GameMasterNextTurnDataMessage.class),
+    GAME_RESYNC_REQUEST(122, GameResyncRequestMessage.class),
+    GAME_DELTA(224, GameDeltaMessage.class);
 
     /**
      * The message type value.
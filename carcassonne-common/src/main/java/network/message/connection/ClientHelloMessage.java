@@ -4,11 +4,25 @@ import network.message.IMessage;
 import network.message.MessageType;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
+import stream.StreamVersion;
 
 /**
  * Message sent by the client to the server to indicate that it is ready to.
  */
 public class ClientHelloMessage implements IMessage {
+    /**
+     * Highest stream version supported by the client.
+     */
+    private int protocolVersion;
+
+    public ClientHelloMessage() {
+        this(StreamVersion.LEGACY);
+    }
+
+    public ClientHelloMessage(int protocolVersion) {
+        this.protocolVersion = protocolVersion;
+    }
+
     /**
      * Returns the message type.
      *
@@ -26,7 +40,7 @@ public class ClientHelloMessage implements IMessage {
      */
     @Override
     public void encode(ByteOutputStream stream) {
-        // Nothing to encode
+        stream.writeInt(protocolVersion);
     }
 
     /**
@@ -36,11 +50,23 @@ public class ClientHelloMessage implements IMessage {
      */
     @Override
     public void decode(ByteInputStream stream) {
-        // Nothing to decode
+        /* The clients built before the versions were negotiated send an empty hello. */
+        protocolVersion = stream.isAtEnd() ? StreamVersion.NONE : stream.readInt();
+    }
+
+    /**
+     * Gets the highest stream version supported by the client.
+     *
+     * @return the {@link StreamVersion} supported by the client
+     */
+    public int getProtocolVersion() {
+        return protocolVersion;
     }
 
     @Override
     public String toString() {
-        return "CLIENT_HELLO {}";
+        return "CLIENT_HELLO {" +
+                "protocolVersion=" + protocolVersion +
+                '}';
     }
 }
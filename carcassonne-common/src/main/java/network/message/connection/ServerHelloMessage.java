@@ -4,6 +4,7 @@ import network.message.IMessage;
 import network.message.MessageType;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
+import stream.StreamVersion;
 
 /**
  * Message sent by the server to the client to inform that the connection is ready to be used.
@@ -11,11 +12,21 @@ import stream.ByteOutputStream;
 public class ServerHelloMessage implements IMessage {
     private int userId;
 
+    /**
+     * Stream version used by the connection once the hello is sent.
+     */
+    private int protocolVersion;
+
     public ServerHelloMessage() {
     }
 
     public ServerHelloMessage(int userId) {
+        this(userId, StreamVersion.LEGACY);
+    }
+
+    public ServerHelloMessage(int userId, int protocolVersion) {
         this.userId = userId;
+        this.protocolVersion = protocolVersion;
     }
 
     /**
@@ -36,6 +47,7 @@ public class ServerHelloMessage implements IMessage {
     @Override
     public void encode(ByteOutputStream stream) {
         stream.writeInt(userId);
+        stream.writeInt(protocolVersion);
     }
 
     /**
@@ -46,6 +58,8 @@ public class ServerHelloMessage implements IMessage {
     @Override
     public void decode(ByteInputStream stream) {
         userId = stream.readInt();
+        /* The servers built before the versions were negotiated send no version. */
+        protocolVersion = stream.isAtEnd() ? StreamVersion.NONE : stream.readInt();
     }
 
     /**
@@ -57,8 +71,20 @@ public class ServerHelloMessage implements IMessage {
         return userId;
     }
 
+    /**
+     * Gets the stream version negotiated for the connection.
+     *
+     * @return The {@link StreamVersion} of the connection.
+     */
+    public int getProtocolVersion() {
+        return protocolVersion;
+    }
+
     @Override
     public String toString() {
-        return "SERVER_HELLO {}";
+        return "SERVER_HELLO {" +
+                "userId=" + userId +
+                ", protocolVersion=" + protocolVersion +
+                '}';
     }
 }
@@ -39,7 +39,7 @@ public class GameCommandRequestMessage implements IMessage {
      */
     @Override
     public void encode(ByteOutputStream stream) {
-        stream.writeInt(command.getType().ordinal());
+        stream.writeCompactInt(command.getType().ordinal());
         command.encode(stream);
     }
 
@@ -50,7 +50,7 @@ public class GameCommandRequestMessage implements IMessage {
      */
     @Override
     public void decode(ByteInputStream stream) {
-        command = CommandFactory.create(CommandType.values()[stream.readInt()]);
+        command = CommandFactory.create(CommandType.values()[stream.readCompactInt()]);
         command.decode(stream);
     }
 
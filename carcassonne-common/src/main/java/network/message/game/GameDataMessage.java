@@ -4,6 +4,8 @@ import network.message.IMessage;
 import network.message.MessageType;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
+import stream.ByteStreamHelper;
+import stream.StreamVersion;
 
 /**
  * Message sent to the client to send the current game data.
@@ -15,12 +17,22 @@ public class GameDataMessage implements IMessage {
      */
     private byte[] data;
 
+    /**
+     * Encoding version of the game data.
+     */
+    private int dataVersion;
+
     public GameDataMessage() {
         // ignored
     }
 
     public GameDataMessage(byte[] data) {
+        this(data, StreamVersion.LEGACY);
+    }
+
+    public GameDataMessage(byte[] data, int dataVersion) {
         this.data = data;
+        this.dataVersion = dataVersion;
     }
 
     /**
@@ -40,6 +52,7 @@ public class GameDataMessage implements IMessage {
      */
     @Override
     public void encode(ByteOutputStream stream) {
+        ByteStreamHelper.encodeDataVersion(stream, dataVersion);
         stream.writeBytes(data);
     }
 
@@ -50,6 +63,7 @@ public class GameDataMessage implements IMessage {
      */
     @Override
     public void decode(ByteInputStream stream) {
+        dataVersion = ByteStreamHelper.decodeDataVersion(stream);
         data = stream.readBytes();
     }
 
@@ -62,6 +76,15 @@ public class GameDataMessage implements IMessage {
         return data;
     }
 
+    /**
+     * Returns the encoding version of the game data.
+     *
+     * @return the {@link StreamVersion} of the game data
+     */
+    public int getDataVersion() {
+        return dataVersion;
+    }
+
     @Override
     public String toString() {
         return "GAME_DATA {}";
@@ -0,0 +1,83 @@
+package network.message.game;
+
+import logic.GameDelta;
+import network.message.IMessage;
+import network.message.MessageType;
+import stream.ByteInputStream;
+import stream.ByteOutputStream;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Message sent to the client to bring its game data up to date.
+ * The deltas follow each other, the first one starts from the turn requested by the client.
+ */
+public class GameDeltaMessage implements IMessage {
+    private List<GameDelta> deltas;
+
+    public GameDeltaMessage() {
+        // ignored
+    }
+
+    public GameDeltaMessage(List<GameDelta> deltas) {
+        this.deltas = deltas;
+    }
+
+    /**
+     * Returns the message type.
+     *
+     * @return the message type
+     */
+    @Override
+    public MessageType getType() {
+        return MessageType.GAME_DELTA;
+    }
+
+    /**
+     * Encodes the message attributes to the output stream.
+     *
+     * @param stream the output stream
+     */
+    @Override
+    public void encode(ByteOutputStream stream) {
+        stream.writeInt(deltas.size());
+
+        for (GameDelta delta : deltas) {
+            delta.encode(stream);
+        }
+    }
+
+    /**
+     * Decodes the message attributes from the input stream.
+     *
+     * @param stream the input stream
+     */
+    @Override
+    public void decode(ByteInputStream stream) {
+        int deltaCount = stream.readInt();
+        deltas = new ArrayList<>(deltaCount);
+
+        for (int i = 0; i < deltaCount; i++) {
+            GameDelta delta = new GameDelta();
+            delta.decode(stream);
+            deltas.add(delta);
+        }
+    }
+
+    /**
+     * Gets the deltas to apply, in order.
+     *
+     * @return the deltas
+     */
+    public List<GameDelta> getDeltas() {
+        return deltas;
+    }
+
+    @Override
+    public String toString() {
+        return "GAME_DELTA {" +
+                "deltas=" + deltas.size() +
+                '}';
+    }
+}
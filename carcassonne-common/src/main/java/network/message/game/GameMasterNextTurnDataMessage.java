@@ -36,7 +36,7 @@ public class GameMasterNextTurnDataMessage implements IMessage {
      */
     @Override
     public void encode(ByteOutputStream stream) {
-        stream.writeInt(tileConfigIndex);
+        stream.writeCompactInt(tileConfigIndex);
     }
 
     /**
@@ -46,7 +46,7 @@ public class GameMasterNextTurnDataMessage implements IMessage {
      */
     @Override
     public void decode(ByteInputStream stream) {
-        tileConfigIndex = stream.readInt();
+        tileConfigIndex = stream.readCompactInt();
     }
 
     /**
@@ -4,6 +4,8 @@ import network.message.IMessage;
 import network.message.MessageType;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
+import stream.ByteStreamHelper;
+import stream.StreamVersion;
 
 /**
  * Message sent by the server to the client to inform the client of the result of the game.
@@ -12,12 +14,22 @@ import stream.ByteOutputStream;
 public class GameResultMessage implements IMessage {
     private byte[] data;
 
+    /**
+     * Encoding version of the game data.
+     */
+    private int dataVersion;
+
     public GameResultMessage() {
         // ignored
     }
 
     public GameResultMessage(byte[] data) {
+        this(data, StreamVersion.LEGACY);
+    }
+
+    public GameResultMessage(byte[] data, int dataVersion) {
         this.data = data;
+        this.dataVersion = dataVersion;
     }
 
     @Override
@@ -32,6 +44,7 @@ public class GameResultMessage implements IMessage {
      */
     @Override
     public void encode(ByteOutputStream stream) {
+        ByteStreamHelper.encodeDataVersion(stream, dataVersion);
         stream.writeBytes(data);
     }
 
@@ -42,6 +55,7 @@ public class GameResultMessage implements IMessage {
      */
     @Override
     public void decode(ByteInputStream stream) {
+        dataVersion = ByteStreamHelper.decodeDataVersion(stream);
         data = stream.readBytes();
     }
 
@@ -54,6 +68,15 @@ public class GameResultMessage implements IMessage {
         return data;
     }
 
+    /**
+     * Returns the encoding version of the game data.
+     *
+     * @return the {@link StreamVersion} of the game data
+     */
+    public int getDataVersion() {
+        return dataVersion;
+    }
+
     @Override
     public String toString() {
         return "GAME_RESULT {}";
@@ -0,0 +1,83 @@
+package network.message.game;
+
+import network.message.IMessage;
+import network.message.MessageType;
+import stream.ByteInputStream;
+import stream.ByteOutputStream;
+
+/**
+ * Message sent by the client when its game data is out of sync with the server.
+ * It gives the last turn the client has a copy of, so the server can answer with the deltas since this turn.
+ * The state hash of the board of the copy lets the server check that the copy is the one it has the deltas from.
+ */
+public class GameResyncRequestMessage implements IMessage {
+    private int turn;
+    private long boardHash;
+
+    public GameResyncRequestMessage() {
+        // ignored
+    }
+
+    public GameResyncRequestMessage(int turn, long boardHash) {
+        this.turn = turn;
+        this.boardHash = boardHash;
+    }
+
+    /**
+     * Returns the message type.
+     *
+     * @return the message type
+     */
+    @Override
+    public MessageType getType() {
+        return MessageType.GAME_RESYNC_REQUEST;
+    }
+
+    /**
+     * Encodes the message attributes to the output stream.
+     *
+     * @param stream the output stream
+     */
+    @Override
+    public void encode(ByteOutputStream stream) {
+        stream.writeInt(turn);
+        stream.writeLong(boardHash);
+    }
+
+    /**
+     * Decodes the message attributes from the input stream.
+     *
+     * @param stream the input stream
+     */
+    @Override
+    public void decode(ByteInputStream stream) {
+        turn = stream.readInt();
+        boardHash = stream.readLong();
+    }
+
+    /**
+     * Gets the last turn the client has a copy of.
+     *
+     * @return the turn
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Gets the state hash of the board of the copy.
+     *
+     * @return the board hash
+     */
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    @Override
+    public String toString() {
+        return "GAME_RESYNC_REQUEST {" +
+                "turn=" + turn +
+                ", boardHash=" + boardHash +
+                '}';
+    }
+}
@@ -8,11 +8,26 @@ import java.nio.charset.StandardCharsets;
 public class ByteInputStream {
     private final byte[] buf;
     private final int length;
+    private final int version;
     private int pos;
 
     public ByteInputStream(byte[] buf, int length) {
+        this(buf, length, StreamVersion.LEGACY);
+    }
+
+    public ByteInputStream(byte[] buf, int length, int version) {
         this.buf = buf;
         this.length = length;
+        this.version = version;
+    }
+
+    /**
+     * Gets the encoding version of the stream.
+     *
+     * @return the {@link StreamVersion} of the stream
+     */
+    public int getVersion() {
+        return version;
     }
 
     public boolean readBoolean() {
@@ -31,6 +46,40 @@ public class ByteInputStream {
         return ((buf[pos++] & 0xff) << 24) | ((buf[pos++] & 0xff) << 16) | ((buf[pos++] & 0xff) << 8) | (buf[pos++] & 0xff);
     }
 
+    /**
+     * Reads an integer written as a zig-zag varint.
+     *
+     * @return the integer read
+     * @throws IllegalStateException if the varint is longer than 5 bytes.
+     */
+    public int readVarInt() {
+        int value = 0;
+
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buf[pos++];
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return (value >>> 1) ^ -(value & 1);
+            }
+        }
+
+        throw new IllegalStateException("Varint is too long.");
+    }
+
+    /**
+     * Reads a small integer, as a varint with the compact encoding or on 4 bytes otherwise.
+     *
+     * @return the integer read
+     */
+    public int readCompactInt() {
+        return version >= StreamVersion.COMPACT ? readVarInt() : readInt();
+    }
+
+    public long readLong() {
+        return ((long) readInt() << 32) | (readInt() & 0xffffffffL);
+    }
+
     public String readString() {
         return readString(readInt());
     }
@@ -8,10 +8,37 @@ import java.nio.charset.StandardCharsets;
 public class ByteOutputStream {
     private byte[] buffer;
     private int index;
+    private final int version;
 
     public ByteOutputStream(int size) {
-        buffer = new byte[size];
-        index = 0;
+        this(size, StreamVersion.LEGACY);
+    }
+
+    public ByteOutputStream(int size, int version) {
+        this(new byte[size], 0, version);
+    }
+
+    /**
+     * Creates a stream writing into the given buffer, after its first bytes.
+     * The buffer is replaced by a larger copy, including the first bytes, if the data does not fit.
+     *
+     * @param buffer  the buffer to write into
+     * @param offset  the number of bytes already in the buffer
+     * @param version the {@link StreamVersion} of the stream
+     */
+    public ByteOutputStream(byte[] buffer, int offset, int version) {
+        this.buffer = buffer;
+        this.index = offset;
+        this.version = version;
+    }
+
+    /**
+     * Gets the encoding version of the stream.
+     *
+     * @return the {@link StreamVersion} of the stream
+     */
+    public int getVersion() {
+        return version;
     }
 
     public void writeBoolean(boolean value) {
@@ -37,6 +64,59 @@ public class ByteOutputStream {
         buffer[index++] = (byte) i;
     }
 
+    /**
+     * Overwrites an integer previously written at the given position, such as a length known after the data.
+     *
+     * @param position the position of the integer
+     * @param i        the integer to write
+     */
+    public void writeIntAt(int position, int i) {
+        if (position < 0 || position + 4 > index) {
+            throw new IndexOutOfBoundsException("Cannot write an integer at " + position + ", stream length is " + index);
+        }
+
+        buffer[position] = (byte) (i >>> 24);
+        buffer[position + 1] = (byte) (i >>> 16);
+        buffer[position + 2] = (byte) (i >>> 8);
+        buffer[position + 3] = (byte) i;
+    }
+
+    /**
+     * Writes an integer as a zig-zag varint: 1 byte from -64 to 63, up to 5 bytes.
+     *
+     * @param i the integer to write
+     */
+    public void writeVarInt(int i) {
+        int value = (i << 1) ^ (i >> 31);
+
+        ensureCapacity(index + 5);
+
+        while ((value & ~0x7F) != 0) {
+            buffer[index++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        buffer[index++] = (byte) value;
+    }
+
+    /**
+     * Writes a small integer, as a varint with the compact encoding or on 4 bytes otherwise.
+     *
+     * @param i the integer to write
+     */
+    public void writeCompactInt(int i) {
+        if (version >= StreamVersion.COMPACT) {
+            writeVarInt(i);
+        } else {
+            writeInt(i);
+        }
+    }
+
+    public void writeLong(long l) {
+        writeInt((int) (l >>> 32));
+        writeInt((int) l);
+    }
+
     public void writeString(String s) {
         if (s == null) {
             writeInt(-1);
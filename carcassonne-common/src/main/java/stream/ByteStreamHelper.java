@@ -22,7 +22,7 @@ public class ByteStreamHelper {
     public static void encodeTile(ByteOutputStream stream, Tile tile, Game game) {
         int tileConfigIndex = game.getConfig().getTileIndex(tile.getConfig());
         assert tileConfigIndex != -1;
-        stream.writeInt(tileConfigIndex);
+        stream.writeCompactInt(tileConfigIndex);
         tile.encode(stream);
     }
 
@@ -34,7 +34,7 @@ public class ByteStreamHelper {
      * @return The decoded tile.
      */
     public static Tile decodeTile(ByteInputStream stream, Game game) {
-        int tileConfigIndex = stream.readInt();
+        int tileConfigIndex = stream.readCompactInt();
         Tile tile = game.getConfig().getTile(tileConfigIndex).createTile(game);
         tile.decode(stream);
         return tile;
@@ -47,8 +47,8 @@ public class ByteStreamHelper {
      * @param vector The vector to encode.
      */
     public static void encodeVector(ByteOutputStream stream, Vector2 vector) {
-        stream.writeInt(vector.x());
-        stream.writeInt(vector.y());
+        stream.writeCompactInt(vector.x());
+        stream.writeCompactInt(vector.y());
     }
 
     /**
@@ -58,6 +58,32 @@ public class ByteStreamHelper {
      * @return The decoded vector.
      */
     public static Vector2 decodeVector(ByteInputStream stream) {
-        return new Vector2(stream.readInt(), stream.readInt());
+        return new Vector2(stream.readCompactInt(), stream.readCompactInt());
+    }
+
+    /**
+     * Encodes the version of nested encoded data, such as a game snapshot.
+     * A legacy stream can only carry legacy data, so the version is only written in the compact streams.
+     *
+     * @param stream      The byte-stream to write to.
+     * @param dataVersion The {@link StreamVersion} of the nested data.
+     * @throws IllegalArgumentException if compact data is written in a legacy stream.
+     */
+    public static void encodeDataVersion(ByteOutputStream stream, int dataVersion) {
+        if (stream.getVersion() >= StreamVersion.COMPACT) {
+            stream.writeVarInt(dataVersion);
+        } else if (dataVersion != StreamVersion.LEGACY) {
+            throw new IllegalArgumentException("Cannot write data of version " + dataVersion + " in a legacy stream.");
+        }
+    }
+
+    /**
+     * Decodes the version of nested encoded data, such as a game snapshot.
+     *
+     * @param stream The byte-stream to read from.
+     * @return The {@link StreamVersion} of the nested data.
+     */
+    public static int decodeDataVersion(ByteInputStream stream) {
+        return stream.getVersion() >= StreamVersion.COMPACT ? stream.readVarInt() : StreamVersion.LEGACY;
     }
 }
@@ -0,0 +1,34 @@
+package stream;
+
+/**
+ * Versions of the encoding of the byte-streams, negotiated by the client and the server when they connect.
+ * The versions only change how the integers are written, the messages and their fields are the same.
+ * So a server can mix legacy and compact clients of the same protocol in a match,
+ * but the peers built before the versions were negotiated are not compatible and are rejected at the hello.
+ */
+public final class StreamVersion {
+    /**
+     * No version, as sent by the peers built before the versions were negotiated.
+     * Their encoding is not compatible with any version, so they are disconnected at the hello.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * Every integer is encoded on 4 bytes.
+     */
+    public static final int LEGACY = 0;
+
+    /**
+     * The small integers (ordinals, indexes, coordinates, ids) are encoded as zig-zag varints.
+     */
+    public static final int COMPACT = 1;
+
+    /**
+     * The most recent version supported.
+     */
+    public static final int CURRENT = COMPACT;
+
+    private StreamVersion() {
+        // ignored
+    }
+}
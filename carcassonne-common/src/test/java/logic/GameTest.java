@@ -1,16 +1,33 @@
 package logic;
 
 import logic.board.GameBoard;
+import logic.command.*;
 import logic.config.GameConfig;
 import logic.exception.NotEnoughPlayerException;
 import logic.exception.TooManyPlayerException;
+import logic.math.Vector2;
 import logic.player.Player;
 import logic.state.GameOverState;
+import logic.state.GameStateType;
+import logic.state.turn.GameTurnPlaceMeepleState;
+import logic.state.turn.GameTurnPlaceTileState;
+import logic.tile.Direction;
 import logic.tile.Tile;
+import logic.tile.TileRotation;
+import logic.tile.area.Area;
 import logic.tile.chunk.Chunk;
 import logic.tile.chunk.ChunkId;
 import logic.tile.chunk.ChunkType;
 import org.junit.jupiter.api.Test;
+import stream.ByteInputStream;
+import stream.ByteOutputStream;
+import stream.StreamVersion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -161,6 +178,69 @@ class GameTest {
         }
     }
 
+    @Test
+    void testCloningCopiesState() {
+        Random random = new Random(7);
+        Game game = TestUtils.initGameEnv(3, false, true);
+
+        for (int i = 0; i < 120 && game.getState().getType() != GameStateType.OVER; i++) {
+            assertTrue(game.makeMove(findRandomMove(game, random)));
+        }
+
+        byte[] snapshot = encodeSnapshot(game);
+        List<Game> clonedGames = IntStream.range(0, 8).parallel().mapToObj(i -> game.clone()).toList();
+
+        for (Game clonedGame : clonedGames) {
+            assertArrayEquals(snapshot, encodeSnapshot(clonedGame));
+        }
+
+        Game clonedGame = clonedGames.get(0);
+
+        for (int i = 0; i < 30 && clonedGame.getState().getType() != GameStateType.OVER; i++) {
+            assertTrue(clonedGame.makeMove(findRandomMove(clonedGame, random)));
+        }
+
+        assertArrayEquals(snapshot, encodeSnapshot(game));
+    }
+
+    @Test
+    void testCloningCopiesTileDrawnRotation() {
+        Game game = TestUtils.initGameEnv(2, false, true);
+
+        for (int i = 0; i < TileRotation.NUM_ROTATIONS; i++) {
+            Tile tileDrawn = ((GameTurnPlaceTileState) game.getState()).getTileDrawn();
+            TileRotation rotation = tileDrawn.getRotation().next();
+            assertTrue(game.makeMove(new RotateTileDrawnCommand(rotation)));
+
+            Game clonedGame = game.clone();
+            Tile clonedTileDrawn = ((GameTurnPlaceTileState) clonedGame.getState()).getTileDrawn();
+
+            assertNotSame(tileDrawn, clonedTileDrawn);
+            assertEquals(tileDrawn.getConfig(), clonedTileDrawn.getConfig());
+            assertEquals(rotation, clonedTileDrawn.getRotation());
+            assertEquals(game.stateHash(), clonedGame.stateHash());
+        }
+    }
+
+    @Test
+    void testDecodingKeepsStateHash() {
+        Game game = TestUtils.initGameEnv(2, false, true);
+        Tile tileDrawn = ((GameTurnPlaceTileState) game.getState()).getTileDrawn();
+        assertTrue(game.makeMove(new RotateTileDrawnCommand(tileDrawn.getRotation().next())));
+
+        for (boolean master : new boolean[]{true, false}) {
+            ByteOutputStream stream = new ByteOutputStream(1000);
+            game.encode(stream, master);
+
+            Game decodedGame = new Game(game.getConfig());
+            decodedGame.decode(new ByteInputStream(stream.getBytes(), stream.getLength()), master);
+            Tile decodedTileDrawn = ((GameTurnPlaceTileState) decodedGame.getState()).getTileDrawn();
+
+            assertEquals(tileDrawn.getRotation(), decodedTileDrawn.getRotation());
+            assertEquals(game.stateHash(), decodedGame.stateHash());
+        }
+    }
+
     @Test
     void testSlaveStackNonEncoding() {
         assertNotNull(config);
@@ -203,4 +283,218 @@ class GameTest {
 
         assertThrows(IllegalStateException.class, game::getTurnExecutor);
     }
+
+    @Test
+    void testMakeUnmakeMove() {
+        Random random = new Random(42);
+        Game game = TestUtils.initGameEnv(3, false, true);
+        ArrayList<byte[]> snapshots = new ArrayList<>();
+        ArrayList<Long> hashes = new ArrayList<>();
+
+        while (game.getState().getType() != GameStateType.OVER && snapshots.size() < 300) {
+            snapshots.add(encodeSnapshot(game));
+            hashes.add(game.stateHash());
+            assertTrue(game.makeMove(findRandomMove(game, random)));
+            assertEquals(game.getBoard().computeStateHash(), game.getBoard().getStateHash());
+        }
+
+        assertEquals(snapshots.size(), game.getJournal().getMoveCount());
+
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            game.unmakeMove();
+            assertArrayEquals(snapshots.get(i), encodeSnapshot(game));
+            assertEquals(hashes.get(i), game.stateHash());
+        }
+
+        assertThrows(IllegalStateException.class, game::unmakeMove);
+    }
+
+    @Test
+    void testDeltaBringsCopyUpToDate() {
+        Random random = new Random(11);
+        Game game = TestUtils.initGameEnv(3, false, true);
+        Game copy = game.clone();
+
+        while (game.getState().getType() != GameStateType.OVER) {
+            Game turnStart = game.clone();
+            int turn = game.getTurnCount();
+
+            while (game.getTurnCount() == turn && game.getState().getType() != GameStateType.OVER) {
+                assertTrue(game.makeMove(findRandomMove(game, random)));
+            }
+
+            GameDelta delta = GameDelta.create(turnStart, game, true);
+            delta.applyTo(copy);
+
+            assertEquals(turn, delta.getFromTurn());
+            assertEquals(game.getTurnCount(), delta.getToTurn());
+            assertArrayEquals(encodeSnapshot(game, false), encodeSnapshot(copy, false));
+            assertEquals(game.getBoard().getStateHash(), copy.getBoard().getStateHash());
+            assertEquals(copy.getBoard().computeStateHash(), copy.getBoard().getStateHash());
+            assertEquals(new ArrayList<>(game.getBoard().getFreePositions()), new ArrayList<>(copy.getBoard().getFreePositions()));
+
+            if (game.getBoard().getTileCount() > 10) {
+                assertTrue(delta.getData().length < encodeSnapshot(game, false).length);
+            }
+        }
+    }
+
+    @Test
+    void testDeltaThrowIfTurnDoesNotMatch() {
+        Random random = new Random(3);
+        Game game = TestUtils.initGameEnv(2, false, true);
+        Game turnStart = game.clone();
+        int turn = game.getTurnCount();
+
+        while (game.getTurnCount() == turn) {
+            assertTrue(game.makeMove(findRandomMove(game, random)));
+        }
+
+        GameDelta delta = GameDelta.create(turnStart, game, false);
+
+        assertThrows(IllegalStateException.class, () -> delta.applyTo(game));
+    }
+
+    @Test
+    void testCompactEncodingDecoding() {
+        Random random = new Random(5);
+        Game game = TestUtils.initGameEnv(3, false, true);
+
+        while (game.getState().getType() != GameStateType.OVER) {
+            assertTrue(game.makeMove(findRandomMove(game, random)));
+
+            ByteOutputStream compact = new ByteOutputStream(1000, StreamVersion.COMPACT);
+            game.encode(compact, true);
+
+            Game decodedGame = new Game(game.getConfig());
+            decodedGame.decode(new ByteInputStream(compact.getBytes(), compact.getLength(), StreamVersion.COMPACT), true);
+
+            assertArrayEquals(encodeSnapshot(game), encodeSnapshot(decodedGame));
+            assertTrue(compact.getLength() < encodeSnapshot(game).length);
+        }
+    }
+
+    @Test
+    void testStateHash() {
+        Game game = TestUtils.initGameEnv(4, true, true);
+        Game decodedGame = new Game(config);
+
+        ByteOutputStream stream = new ByteOutputStream(1000);
+        game.encode(stream, true);
+        decodedGame.decode(new ByteInputStream(stream.getBytes(), stream.getLength()), true);
+
+        assertEquals(game.getBoard().computeStateHash(), game.getBoard().getStateHash());
+        assertEquals(game.stateHash(), decodedGame.stateHash());
+        assertEquals(game.stateHash(), game.clone().stateHash());
+        assertNotEquals(game.stateHash(), TestUtils.initGameEnv(4, false, true).stateHash());
+    }
+
+    @Test
+    void testPendingClosingAreasFollowMovesAndCopies() {
+        Random random = new Random(13);
+        Game game = TestUtils.initGameEnv(3, false, true);
+        Game turnStart;
+        ICommand move;
+
+        /* Plays until a tile placement closes an area, its closing evaluation waits for the end of the turn. */
+        do {
+            assertNotEquals(GameStateType.OVER, game.getState().getType());
+            turnStart = game.clone();
+            move = findRandomMove(game, random);
+            assertTrue(game.makeMove(move));
+        } while (!(move instanceof PlaceTileDrawnCommand) || game.getBoard().getAreas().stream().noneMatch(Area::isWaitingClosingEvaluation));
+
+        game.unmakeMove();
+        assertNull(game.getBoard().pollPendingClosingArea());
+        assertTrue(game.makeMove(move));
+
+        Game clonedGame = game.clone();
+
+        ByteOutputStream stream = new ByteOutputStream(1000);
+        game.encode(stream, true);
+        Game decodedGame = new Game(game.getConfig());
+        decodedGame.decode(new ByteInputStream(stream.getBytes(), stream.getLength()), true);
+
+        GameDelta.create(turnStart, game, true).applyTo(turnStart);
+
+        List<Integer> areaIds = pollPendingClosingAreaIds(game);
+
+        assertFalse(areaIds.isEmpty());
+        assertEquals(areaIds, pollPendingClosingAreaIds(clonedGame));
+        assertEquals(areaIds, pollPendingClosingAreaIds(decodedGame));
+        assertEquals(areaIds, pollPendingClosingAreaIds(turnStart));
+    }
+
+    @Test
+    void testMakeInvalidMove() {
+        Game game = TestUtils.initGameEnv(2, false, true);
+        byte[] snapshot = encodeSnapshot(game);
+
+        assertFalse(game.makeMove(new SkipMeeplePlacementCommand()));
+        assertEquals(0, game.getJournal().getMoveCount());
+        assertArrayEquals(snapshot, encodeSnapshot(game));
+    }
+
+    private static ICommand findRandomMove(Game game, Random random) {
+        switch (game.getState().getType()) {
+            case TURN_PLACE_TILE -> {
+                Tile tile = ((GameTurnPlaceTileState) game.getState()).getTileDrawn();
+                List<Vector2> positions = game.getBoard().findFreePlacesForTile(tile);
+
+                if (positions.isEmpty()) {
+                    return new RotateTileDrawnCommand(tile.getRotation().next());
+                }
+
+                return new PlaceTileDrawnCommand(positions.get(random.nextInt(positions.size())));
+            }
+            case TURN_PLACE_MEEPLE -> {
+                Vector2 position = ((GameTurnPlaceMeepleState) game.getState()).getTileDrawnPosition();
+                ICommand command = new PlaceMeepleCommand(position, ChunkId.values()[random.nextInt(ChunkId.values().length)]);
+
+                if (random.nextBoolean() && command.canBeExecuted(game) == ICommand.ERROR_SUCCESS) {
+                    return command;
+                }
+
+                return new SkipMeeplePlacementCommand();
+            }
+            case TURN_MOVE_DRAGON -> {
+                while (true) {
+                    ICommand command = new MoveDragonCommand(Direction.values()[random.nextInt(Direction.values().length)]);
+
+                    if (command.canBeExecuted(game) == ICommand.ERROR_SUCCESS) {
+                        return command;
+                    }
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected state: " + game.getState().getType());
+        }
+    }
+
+    private static List<Integer> pollPendingClosingAreaIds(Game game) {
+        List<Integer> areaIds = new ArrayList<>();
+        Area area;
+
+        while ((area = game.getBoard().pollPendingClosingArea()) != null) {
+            areaIds.add(area.getId());
+        }
+
+        return areaIds;
+    }
+
+    private static byte[] encodeSnapshot(Game game) {
+        return encodeSnapshot(game, true);
+    }
+
+    private static byte[] encodeSnapshot(Game game, boolean master) {
+        ByteOutputStream stream = new ByteOutputStream(1000);
+        game.encode(stream, master);
+
+        for (Area area : game.getBoard().getAreas()) {
+            stream.writeInt(area.getNumTiles());
+            stream.writeInt(area.getFreeEdges());
+            stream.writeBoolean(area.hasMeeple());
+        }
+
+        return Arrays.copyOf(stream.getBytes(), stream.getLength());
+    }
 }
@@ -2,9 +2,27 @@ package logic.board;
 
 import logic.Game;
 import logic.TestUtils;
+import logic.command.PlaceTileDrawnCommand;
+import logic.config.excel.TileConfig;
 import logic.math.Vector2;
+import logic.player.Player;
+import logic.state.turn.GameTurnPlaceTileState;
+import logic.tile.Direction;
 import logic.tile.Tile;
+import logic.tile.TileFlags;
+import logic.tile.TileRotation;
+import logic.tile.area.Area;
+import logic.tile.chunk.Chunk;
+import logic.tile.chunk.ChunkId;
 import org.junit.jupiter.api.Test;
+import stream.ByteInputStream;
+import stream.ByteOutputStream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -44,10 +62,223 @@ class GameBoardTest {
         });
     }
 
+    @Test
+    void testFreePositions() {
+        Game game = TestUtils.initGameEnv(2, true, true);
+        GameBoard gameBoard = game.getBoard();
+
+        for (Vector2 position : gameBoard.getFreePositions()) {
+            assertFalse(gameBoard.hasTileAt(position));
+            assertTrue(Arrays.stream(Direction.values()).anyMatch(edge -> gameBoard.hasTileAt(position.add(edge.value()))));
+        }
+
+        for (Tile tile : gameBoard.getTiles()) {
+            for (Direction edge : Direction.values()) {
+                Vector2 position = tile.getPosition().add(edge.value());
+                assertEquals(!gameBoard.hasTileAt(position), gameBoard.getFreePositions().contains(position));
+            }
+        }
+    }
+
+    @Test
+    void testMeepleIndex() {
+        for (int i = 0; i < 10; i++) {
+            Game game = TestUtils.initGameEnv(4, true, true);
+            assertMeepleIndex(game);
+            assertMeepleIndex(game.clone());
+        }
+    }
+
+    private static void assertMeepleIndex(Game game) {
+        GameBoard board = game.getBoard();
+
+        for (Player player : game.getPlayers()) {
+            Set<Chunk> chunks = new HashSet<>();
+
+            for (Tile tile : board.getTiles()) {
+                for (ChunkId chunkId : ChunkId.values()) {
+                    Chunk chunk = tile.getChunk(chunkId);
+
+                    if (chunk.hasMeeple() && chunk.getMeeple().getOwner() == player) {
+                        chunks.add(chunk);
+                    }
+                }
+            }
+
+            assertEquals(chunks, board.getMeepleChunks(player));
+        }
+
+        for (Area area : board.getAreas()) {
+            assertEquals(area.getChunks().stream().filter(Chunk::hasMeeple).collect(Collectors.toSet()), new HashSet<>(area.getMeepleChunks()));
+        }
+    }
+
+    @Test
+    void testPlaceablePositionCount() {
+        for (int i = 0; i < 10; i++) {
+            Game game = TestUtils.initGameEnv(4, true, true);
+            assertPlaceablePositionCount(game);
+            assertPlaceablePositionCount(game.clone());
+        }
+    }
+
+    private static void assertPlaceablePositionCount(Game game) {
+        GameBoard board = game.getBoard();
+
+        for (TileConfig config : game.getConfig().getTiles()) {
+            Tile tile = config.createTile(game);
+            int count = 0;
+
+            for (Vector2 position : board.getFreePositions()) {
+                if (Arrays.stream(TileRotation.values()).anyMatch(r -> tile.canBePlacedAt(position, r))) {
+                    count++;
+                }
+            }
+
+            assertEquals(count, board.getPlaceablePositionCount(config));
+            assertEquals(count > 0 && !tile.hasFlag(TileFlags.STARTING), board.hasFreePlaceForTile(tile));
+        }
+    }
+
+    @Test
+    void testFlagTileCounts() {
+        for (int i = 0; i < 10; i++) {
+            Game game = TestUtils.initGameEnv(4, true, true);
+            GameBoard board = game.getBoard();
+
+            for (TileFlags flag : TileFlags.values()) {
+                long count = board.getTiles().stream().filter(t -> t.hasFlag(flag)).count();
+
+                assertEquals(count, board.getTileCount(flag));
+                assertEquals(count, game.clone().getBoard().getTileCount(flag));
+            }
+
+            assertEquals(board.getTiles().stream().anyMatch(Tile::hasVolcano), board.hasVolcano());
+        }
+    }
+
+    @Test
+    void testNeighbourTraversal() {
+        Game game = TestUtils.initGameEnv(2, true, true);
+        GameBoard board = game.getBoard();
+
+        for (Vector2 position : board.getFreePositions()) {
+            Set<Tile> neighbours = new HashSet<>();
+            board.forEachNeighbour(position.x(), position.y(), (edge, neighbour) -> {
+                assertEquals(board.getTileAt(position.add(edge.value())), neighbour);
+                neighbours.add(neighbour);
+            });
+
+            Set<Tile> expectedNeighbours = Arrays.stream(Direction.values())
+                    .map(edge -> board.getTileAt(position.add(edge.value())))
+                    .filter(tile -> tile != null)
+                    .collect(Collectors.toSet());
+
+            assertEquals(expectedNeighbours, neighbours);
+
+            board.forEachOppositeChunk(position.x(), position.y(), (edge, chunkId, oppositeChunk) -> {
+                Tile neighbour = board.getTileAt(position.add(edge.value()));
+                int index = Arrays.asList(edge.getChunkIds()).indexOf(chunkId);
+
+                assertEquals(neighbour.getChunk(edge.negate().getChunkIds()[index]), oppositeChunk);
+            });
+        }
+
+        Tile tile = board.getStartingTile();
+        Set<Chunk> edgeChunks = new HashSet<>();
+        board.forEachEdgeChunk(tile, Direction.TOP, edgeChunks::add);
+
+        assertEquals(Arrays.stream(Direction.TOP.getChunkIds()).map(tile::getChunk).collect(Collectors.toSet()), edgeChunks);
+        assertSame(Direction.TOP.getChunkIds(), Direction.TOP.getChunkIds());
+        assertSame(Direction.TOP.getChunkIds(), Direction.BOTTOM.getOppositeChunkIds());
+        assertArrayEquals(Direction.values(), Direction.getValues());
+        assertArrayEquals(ChunkId.values(), ChunkId.getValues());
+    }
+
+    @Test
+    void testDecode() {
+        for (int i = 0; i < 10; i++) {
+            Game game = TestUtils.initGameEnv(4, true, true);
+            GameBoard board = game.getBoard();
+
+            ByteOutputStream stream = new ByteOutputStream(1000);
+            game.encode(stream, true);
+
+            Game decodedGame = new Game(game.getConfig());
+            decodedGame.decode(new ByteInputStream(stream.getBytes(), stream.getLength()), true);
+            GameBoard decodedBoard = decodedGame.getBoard();
+
+            assertEquals(board.getStateHash(), decodedBoard.getStateHash());
+            assertEquals(decodedBoard.computeStateHash(), decodedBoard.getStateHash());
+            assertEquals(new ArrayList<>(board.getFreePositions()), new ArrayList<>(decodedBoard.getFreePositions()));
+            assertEquals(board.getAreas().size(), decodedBoard.getAreas().size());
+
+            for (int j = 0; j < board.getAreas().size(); j++) {
+                Area area = board.getAreas().get(j);
+                Area decodedArea = decodedBoard.getAreas().get(j);
+
+                assertEquals(area.isClosed(), decodedArea.isClosed());
+                assertEquals(area.isWaitingClosingEvaluation(), decodedArea.isWaitingClosingEvaluation());
+                assertEquals(area.getChunks().size(), decodedArea.getChunks().size());
+            }
+
+            for (TileConfig config : game.getConfig().getTiles()) {
+                assertEquals(board.getPlaceablePositionCount(config), decodedBoard.getPlaceablePositionCount(config));
+            }
+
+            for (TileFlags flag : TileFlags.values()) {
+                assertEquals(board.getTileCount(flag), decodedBoard.getTileCount(flag));
+            }
+
+            assertPlaceablePositionCount(decodedGame);
+        }
+    }
+
+    @Test
+    void testGetArea() {
+        Game game = TestUtils.initGameEnv(2, true, true);
+        GameBoard board = game.getBoard();
+
+        for (int id = 0; id < board.getAreaRegistry().getCount(); id++) {
+            Area area = board.getAreaRegistry().getArea(id);
+
+            assertSame(area.getRoot(), board.getArea(id));
+            assertTrue(board.getAreas().contains(board.getArea(id)));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> board.getArea(-1));
+        assertThrows(IllegalArgumentException.class, () -> board.getArea(board.getAreaRegistry().getCount()));
+    }
+
+    @Test
+    void testUnmakeFirstPlacement() {
+        Game game = TestUtils.initGameEnv(2, false, true);
+        GameBoard board = game.getBoard();
+        assertTrue(board.isEmpty());
+        assertTrue(board.getFreePositions().isEmpty());
+
+        Tile tileDrawn = ((GameTurnPlaceTileState) game.getState()).getTileDrawn();
+        assertTrue(game.makeMove(new PlaceTileDrawnCommand(new Vector2(0, 0))));
+        assertFalse(board.getFreePositions().isEmpty());
+
+        game.unmakeMove();
+
+        assertTrue(board.isEmpty());
+        assertTrue(board.getFreePositions().isEmpty());
+
+        for (TileConfig config : game.getConfig().getTiles()) {
+            assertEquals(0, board.getPlaceablePositionCount(config));
+        }
+
+        assertTrue(game.makeMove(new PlaceTileDrawnCommand(new Vector2(0, 0))));
+        assertEquals(tileDrawn, board.getTileAt(0, 0));
+    }
+
     @Test
     void testClear() {
         Game game = TestUtils.initGameEnv(2, true, true);
         game.getBoard().clear();
         assertTrue(game.getBoard().isEmpty());
+        assertTrue(game.getBoard().getFreePositions().isEmpty());
     }
 }
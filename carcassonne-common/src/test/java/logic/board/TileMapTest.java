@@ -0,0 +1,49 @@
+package logic.board;
+
+import logic.tile.Tile;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileMapTest {
+    @Test
+    void testPutGetRemove() {
+        TileMap map = new TileMap();
+        HashMap<Long, Tile> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            int x = random.nextInt(41) - 20;
+            int y = random.nextInt(41) - 20;
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(TileMap.key(x, y)), map.remove(x, y));
+            } else {
+                Tile tile = new Tile(null, null);
+                map.put(x, y, tile);
+                expected.put(TileMap.key(x, y), tile);
+            }
+
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (int x = -20; x <= 20; x++) {
+            for (int y = -20; y <= 20; y++) {
+                assertSame(expected.get(TileMap.key(x, y)), map.get(x, y));
+            }
+        }
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(0, 0));
+    }
+
+    @Test
+    void testNegativeKeys() {
+        assertNotEquals(TileMap.key(-1, 0), TileMap.key(0, -1));
+        assertNotEquals(TileMap.key(1, -1), TileMap.key(0, 1));
+    }
+}
@@ -87,4 +87,44 @@ class TileStackTest {
 
         assertTrue(stack.remove().hasFlag(TileFlags.STARTING));
     }
+
+    @Test
+    void testSeededShuffle() {
+        Game game = TestUtils.initGameEnv(2, false, false);
+        TileStack stack1 = new TileStack(game);
+        TileStack stack2 = new TileStack(game);
+
+        stack1.fill(config);
+        stack2.fill(config);
+        stack1.setSeed(42);
+        stack2.setSeed(42);
+        stack1.shuffle();
+        stack2.shuffle();
+
+        assertEquals(stack1.getSeed(), stack2.getSeed());
+
+        while (!stack1.isEmpty()) {
+            assertSame(stack1.remove().getConfig(), stack2.remove().getConfig());
+        }
+    }
+
+    @Test
+    void testRemainingCounts() {
+        Game game = TestUtils.initGameEnv(2, false, false);
+        TileStack stack = new TileStack(game);
+        stack.fill(game.getConfig());
+        stack.shuffle();
+
+        while (!stack.isEmpty()) {
+            TileConfig drawnConfig = stack.peek().getConfig();
+            int count = stack.getRemainingCount(drawnConfig);
+
+            stack.remove();
+            assertEquals(count - 1, stack.getRemainingCount(drawnConfig));
+        }
+
+        for (TileConfig tileConfig : game.getConfig().getTiles()) {
+            assertEquals(0, stack.getRemainingCount(tileConfig));
+        }
+    }
 }
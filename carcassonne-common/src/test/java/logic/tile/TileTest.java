@@ -4,6 +4,7 @@ import logic.Game;
 import logic.TestUtils;
 import logic.board.GameBoard;
 import logic.config.GameConfig;
+import logic.config.excel.TileConfig;
 import logic.math.Vector2;
 import logic.tile.area.Area;
 import logic.tile.chunk.Chunk;
@@ -54,6 +55,52 @@ class TileTest {
         assertEquals(originalChunkReferences[12], rotatedChunkReferences[12]);
     }
 
+    @Test
+    void testCurrentIdFollowsRotation() {
+        GameConfig config = GameConfig.loadFromResources();
+        assertNotNull(config);
+        Tile tile = config.getTile(0).createTile(null);
+
+        for (TileRotation rotation : TileRotation.values()) {
+            tile.setRotation(rotation);
+
+            for (ChunkId chunkId : ChunkId.values()) {
+                assertEquals(chunkId, tile.getChunk(chunkId).getCurrentId());
+                assertEquals(chunkId, chunkId.rotate(rotation).unrotate(rotation));
+            }
+
+            tile.rotate();
+            assertEquals(rotation.next(), tile.getRotation());
+        }
+    }
+
+    @Test
+    void testEdgeSignatures() {
+        GameConfig config = GameConfig.loadFromResources();
+        assertNotNull(config);
+
+        for (TileConfig tileConfig : config.getTiles()) {
+            Tile tile = tileConfig.createTile(null);
+            Tile other = tileConfig.createTile(null);
+
+            for (int i = 0; i < TileRotation.NUM_ROTATIONS; i++) {
+                for (Direction edge : Direction.values()) {
+                    ChunkId[] ownChunkIds = edge.getChunkIds();
+                    ChunkId[] oppositeChunkIds = edge.negate().getChunkIds();
+                    boolean compatible = true;
+
+                    for (int j = 0; j < ownChunkIds.length; j++) {
+                        compatible &= tile.getChunk(ownChunkIds[j]).isCompatibleWith(other.getChunk(oppositeChunkIds[j]));
+                    }
+
+                    assertEquals(compatible, tile.checkChunkCompatibility(other, edge));
+                }
+
+                other.rotate();
+            }
+        }
+    }
+
     @Test
     void testIsOnBoard() {
         Tile tile = new Tile(null, null);
@@ -0,0 +1,113 @@
+package logic.tile.area;
+
+import logic.Game;
+import logic.TestUtils;
+import logic.board.GameBoard;
+import logic.config.excel.TileConfig;
+import logic.math.Vector2;
+import logic.tile.Direction;
+import logic.tile.Tile;
+import logic.tile.TileFlags;
+import logic.tile.TileRotation;
+import logic.tile.chunk.Chunk;
+import logic.tile.chunk.ChunkId;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AreaRegistryTest {
+    @Test
+    void testChunksResolveToRoot() {
+        Game game = TestUtils.initGameEnv(2, true, true);
+        GameBoard board = game.getBoard();
+        List<Area> areas = board.getAreas();
+
+        for (Tile tile : board.getTiles()) {
+            for (ChunkId chunkId : ChunkId.values()) {
+                Area area = tile.getChunk(chunkId).getArea();
+
+                assertSame(area, area.getRoot());
+                assertTrue(areas.contains(area));
+                assertTrue(area.hasTile(tile));
+            }
+        }
+
+        assertEquals(areas.size(), new HashSet<>(areas).size());
+    }
+
+    @Test
+    void testAggregates() {
+        for (int i = 0; i < 10; i++) {
+            Game game = TestUtils.initGameEnv(4, true, true);
+
+            for (Area area : game.getBoard().getAreas()) {
+                assertEquals(area.getTiles().size(), area.getNumTiles());
+                assertEquals(area.getTiles().stream().filter(t -> t.hasFlag(TileFlags.SHIELD)).count(), area.getNumShields());
+                assertEquals(area.getChunks().stream().anyMatch(Chunk::hasMeeple), area.hasMeeple());
+                assertEquals(area.getFreeEdges(area.getTiles(), area.getChunks()), area.getFreeEdges());
+
+                for (Chunk chunk : area.getChunks()) {
+                    assertSame(area, chunk.getArea());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSimulatedMerge() {
+        Game game = TestUtils.initGameEnv(4, true, true);
+
+        for (TileConfig tileConfig : game.getConfig().getTiles()) {
+            Tile tile = tileConfig.createTile(game);
+
+            for (int i = 0; i < TileRotation.NUM_ROTATIONS; i++) {
+                tile.rotate();
+
+                for (Vector2 position : game.getBoard().findFreePlacesForTile(tile)) {
+                    tile.setPosition(position);
+
+                    for (Direction edge : Direction.values()) {
+                        Tile neighbor = game.getBoard().getTileAt(position.add(edge.value()));
+
+                        if (neighbor == null) {
+                            continue;
+                        }
+
+                        ChunkId[] ownChunkIds = edge.getChunkIds();
+                        ChunkId[] neighborChunkIds = edge.negate().getChunkIds();
+
+                        for (int j = 0; j < ownChunkIds.length; j++) {
+                            Area ownArea = tile.getChunk(ownChunkIds[j]).getArea();
+                            Area area = neighbor.getChunk(neighborChunkIds[j]).getArea();
+
+                            Set<Tile> tiles = area.getTiles();
+                            Set<Chunk> chunks = area.getChunks();
+                            tiles.add(tile);
+                            chunks.addAll(ownArea.getChunks());
+
+                            assertEquals(area.getFreeEdges(tiles, chunks), area.getFreeEdges(ownArea));
+                        }
+                    }
+                }
+
+                tile.setPosition(null);
+            }
+        }
+    }
+
+    @Test
+    void testMergeOutsideBoard() {
+        Game game = TestUtils.initGameEnv(2, false, false);
+        Tile tile1 = game.getConfig().getTiles().stream().filter(t -> t.getModel().equals("U")).findFirst().get().createTile(game);
+        Tile tile2 = game.getConfig().getTiles().stream().filter(t -> t.getModel().equals("U")).findFirst().get().createTile(game);
+
+        Area area1 = tile1.getChunk(ChunkId.CENTER_MIDDLE).getArea();
+        Area area2 = tile2.getChunk(ChunkId.CENTER_MIDDLE).getArea();
+
+        assertThrows(IllegalStateException.class, () -> area1.merge(area2));
+    }
+}
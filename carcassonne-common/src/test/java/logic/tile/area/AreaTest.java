@@ -1,14 +1,20 @@
 package logic.tile.area;
 
 import logic.Game;
+import logic.TestUtils;
 import logic.config.GameConfig;
+import logic.config.excel.TileConfig;
 import logic.math.Vector2;
 import logic.tile.Tile;
 import logic.tile.chunk.Chunk;
 import logic.tile.chunk.ChunkId;
+import logic.tile.chunk.ChunkType;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,6 +41,64 @@ class AreaTest {
         assertFalse(tile1.getChunk(ChunkId.WEST_MIDDLE).getArea().isClosed());
     }
 
+    @Test
+    void testAbbeyClosureByDiagonalTile() {
+        GameConfig config = GameConfig.loadFromResources();
+        assertNotNull(config);
+        Game game = new Game(config);
+
+        TileConfig abbeyConfig = config.getTiles().stream().filter(t -> t.getModel().equals("B")).findFirst().get();
+        Tile abbeyTile = abbeyConfig.createTile(game);
+        abbeyTile.setPosition(new Vector2(0, 0));
+        game.getBoard().place(abbeyTile);
+
+        Area abbeyArea = abbeyTile.getChunk(ChunkId.CENTER_MIDDLE).getArea();
+
+        // Orthogonal neighbours first, the diagonal ones only touch the abbey tile by a corner.
+        int[][] positions = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}, {1, 1}, {1, -1}, {-1, -1}, {-1, 1}};
+
+        for (int[] position : positions) {
+            assertFalse(abbeyArea.isClosed());
+
+            Tile tile = abbeyConfig.createTile(game);
+            tile.setPosition(new Vector2(position[0], position[1]));
+            game.getBoard().place(tile);
+        }
+
+        assertTrue(abbeyArea.isClosed());
+        assertTrue(abbeyArea.isWaitingClosingEvaluation());
+        assertSame(abbeyArea, game.getBoard().pollPendingClosingArea());
+        assertNull(game.getBoard().pollPendingClosingArea());
+    }
+
+    @Test
+    void testFieldOpenPoints() {
+        for (int i = 0; i < 10; i++) {
+            Game game = TestUtils.initGameEnv(4, true, true);
+
+            for (Area area : game.getBoard().getAreas()) {
+                if (area instanceof FieldArea) {
+                    Set<Area> closedTowns = new HashSet<>();
+
+                    for (Chunk chunk : area.getChunks()) {
+                        Tile tile = chunk.getParent();
+
+                        for (ChunkId chunkId : ChunkId.values()) {
+                            Chunk townChunk = tile.getChunk(chunkId);
+
+                            if (townChunk.getType() == ChunkType.TOWN && townChunk.getArea().isClosed()
+                                    && Arrays.stream(chunkId.getNeighbours()).anyMatch(id -> tile.getChunk(id) == chunk)) {
+                                closedTowns.add(townChunk.getArea());
+                            }
+                        }
+                    }
+
+                    assertEquals(closedTowns.size() * 3, area.getOpenPoints());
+                }
+            }
+        }
+    }
+
     @Test
     void testBadMerging() {
         GameConfig config = GameConfig.loadFromResources();
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -69,4 +70,18 @@ class PacketTest {
         assertTrue(decodedPacket.decode(inputStream) >= 0);
         assertEquals(GameResultMessage.class, decodedPacket.getMessage().getClass());
     }
+
+    @Test
+    void testEncodeMessageInPlace() {
+        GameResultMessage message = new GameResultMessage(new byte[]{1, 2, 3, 4, 5});
+        ByteOutputStream expectedStream = new ByteOutputStream(50);
+        expectedStream.writeInt(42);
+        Packet.create(message).encode(expectedStream);
+
+        ByteOutputStream outputStream = new ByteOutputStream(4);
+        outputStream.writeInt(42);
+        Packet.encode(message, outputStream);
+
+        assertArrayEquals(expectedStream.toByteArray(), outputStream.toByteArray());
+    }
 }
@@ -1,6 +1,8 @@
 package network;
 
 import org.junit.jupiter.api.Test;
+import stream.ByteOutputStream;
+import stream.StreamVersion;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -66,4 +68,28 @@ class ResizableByteBufferTest {
 
         assertEquals(0, buffer.size());
     }
+
+    @Test
+    void testWriteInPlace() {
+        ResizableByteBuffer buffer = new ResizableByteBuffer(4, 50);
+        buffer.put(new byte[]{1, 2});
+
+        /* Writing past the initial 4-bytes segment */
+        ByteOutputStream stream = buffer.openStream(StreamVersion.LEGACY);
+        stream.writeInt(0x03040506);
+        assertEquals(2, buffer.size());
+
+        buffer.commit(stream);
+
+        assertEquals(6, buffer.size());
+        assertEquals(1, buffer.getBuffer()[0]);
+        assertEquals(3, buffer.getBuffer()[2]);
+        assertEquals(6, buffer.getBuffer()[5]);
+
+        /* Throws an exception because we exceed the max buffer size */
+        ByteOutputStream largeStream = buffer.openStream(StreamVersion.LEGACY);
+        largeStream.writeBytesWithoutLength(new byte[50]);
+        assertThrows(IllegalArgumentException.class, () -> buffer.commit(largeStream));
+        assertEquals(6, buffer.size());
+    }
 }
@@ -1,5 +1,6 @@
 package network.message;
 
+import logic.GameDelta;
 import logic.command.PlaceTileDrawnCommand;
 import logic.math.Vector2;
 import network.message.connection.ClientHelloMessage;
@@ -9,16 +10,23 @@ import network.message.matchmaking.*;
 import org.junit.jupiter.api.Test;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
+import stream.StreamVersion;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class MessageTest {
     private static <E extends IMessage> E cloneUsingEncodeDecode(E message) {
-        ByteOutputStream out = new ByteOutputStream(100);
+        return cloneUsingEncodeDecode(message, StreamVersion.LEGACY);
+    }
+
+    private static <E extends IMessage> E cloneUsingEncodeDecode(E message, int version) {
+        ByteOutputStream out = new ByteOutputStream(100, version);
         message.encode(out);
 
         E decoded = (E) MessageFactory.create(message.getType());
-        ByteInputStream in = new ByteInputStream(out.getBytes(), out.getLength());
+        ByteInputStream in = new ByteInputStream(out.getBytes(), out.getLength(), version);
         assertNotNull(decoded);
         decoded.decode(in);
         assertTrue(in.isAtEnd());
@@ -45,16 +53,32 @@ class MessageTest {
 
     @Test
     void testClientHelloEncodingDecoding() {
-        ClientHelloMessage original = new ClientHelloMessage();
+        ClientHelloMessage original = new ClientHelloMessage(StreamVersion.COMPACT);
         ClientHelloMessage decoded = cloneUsingEncodeDecode(original);
+
+        assertEquals(StreamVersion.COMPACT, decoded.getProtocolVersion());
+    }
+
+    @Test
+    void testEmptyHelloHasNoVersion() {
+        ClientHelloMessage decodedClientHello = new ClientHelloMessage(StreamVersion.COMPACT);
+        decodedClientHello.decode(new ByteInputStream(new byte[0], 0));
+
+        ServerHelloMessage decodedServerHello = new ServerHelloMessage(1, StreamVersion.COMPACT);
+        decodedServerHello.decode(new ByteInputStream(new byte[]{0, 0, 0, 1}, 4));
+
+        assertEquals(StreamVersion.NONE, decodedClientHello.getProtocolVersion());
+        assertEquals(StreamVersion.NONE, decodedServerHello.getProtocolVersion());
+        assertEquals(1, decodedServerHello.getUserId());
     }
 
     @Test
     void testServerHelloEncodingDecoding() {
-        ServerHelloMessage original = new ServerHelloMessage(12345);
+        ServerHelloMessage original = new ServerHelloMessage(12345, StreamVersion.COMPACT);
         ServerHelloMessage decoded = cloneUsingEncodeDecode(original);
 
         assertEquals(original.getUserId(), decoded.getUserId());
+        assertEquals(StreamVersion.COMPACT, decoded.getProtocolVersion());
     }
 
     @Test
@@ -81,6 +105,16 @@ class MessageTest {
         assertArrayEquals(original.getData(), decoded.getData());
     }
 
+    @Test
+    void testCompactGameDataEncodingDecoding() {
+        GameDataMessage original = new GameDataMessage(new byte[]{1, 2, 3, 4, 5}, StreamVersion.COMPACT);
+        GameDataMessage decoded = cloneUsingEncodeDecode(original, StreamVersion.COMPACT);
+
+        assertArrayEquals(original.getData(), decoded.getData());
+        assertEquals(StreamVersion.COMPACT, decoded.getDataVersion());
+        assertThrows(IllegalArgumentException.class, () -> cloneUsingEncodeDecode(original));
+    }
+
     @Test
     void testGameMasterNextTurnDataEncodingDecoding() {
         GameMasterNextTurnDataMessage original = new GameMasterNextTurnDataMessage(-1);
@@ -131,4 +165,31 @@ class MessageTest {
         MatchmakingLeftMessage original = new MatchmakingLeftMessage();
         MatchmakingLeftMessage decoded = cloneUsingEncodeDecode(original);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGameResyncRequestEncodingDecoding() {
+        GameResyncRequestMessage original = new GameResyncRequestMessage(12, 0x1234567890abcdefL);
+        GameResyncRequestMessage decoded = cloneUsingEncodeDecode(original);
+
+        assertEquals(original.getTurn(), decoded.getTurn());
+        assertEquals(original.getBoardHash(), decoded.getBoardHash());
+    }
+
+    @Test
+    void testGameDeltaEncodingDecoding() {
+        GameDeltaMessage original = new GameDeltaMessage(List.of(
+                new GameDelta(3, 0x1234567890abcdefL, 4, new byte[]{1, 2, 3}),
+                new GameDelta(4, -42L, 5, new byte[]{4, 5})
+        ));
+        GameDeltaMessage decoded = cloneUsingEncodeDecode(original);
+
+        assertEquals(2, decoded.getDeltas().size());
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(original.getDeltas().get(i).getFromTurn(), decoded.getDeltas().get(i).getFromTurn());
+            assertEquals(original.getDeltas().get(i).getFromHash(), decoded.getDeltas().get(i).getFromHash());
+            assertEquals(original.getDeltas().get(i).getToTurn(), decoded.getDeltas().get(i).getToTurn());
+            assertArrayEquals(original.getDeltas().get(i).getData(), decoded.getDeltas().get(i).getData());
+        }
+    }
+}
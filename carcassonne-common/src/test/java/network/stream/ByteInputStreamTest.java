@@ -2,6 +2,7 @@ package network.stream;
 
 import org.junit.jupiter.api.Test;
 import stream.ByteInputStream;
+import stream.StreamVersion;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -59,4 +60,33 @@ class ByteInputStreamTest {
         assertArrayEquals(new byte[]{(byte) 0x30, (byte) 0x31, (byte) 0x32, (byte) 0x33, (byte) 0x34}, inputStream.readBytes());
         assertTrue(inputStream.isAtEnd());
     }
+
+    @Test
+    void testReadVarInt() {
+        ByteInputStream inputStream = new ByteInputStream(new byte[]{0x00, 0x01, (byte) 0x80, 0x01, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}, 9);
+
+        assertEquals(0, inputStream.readVarInt());
+        assertEquals(-1, inputStream.readVarInt());
+        assertEquals(64, inputStream.readVarInt());
+        assertEquals(Integer.MIN_VALUE, inputStream.readVarInt());
+        assertTrue(inputStream.isAtEnd());
+    }
+
+    @Test
+    void testThrowWhenVarIntIsTooLong() {
+        ByteInputStream inputStream = new ByteInputStream(new byte[]{(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01}, 6);
+
+        assertThrows(IllegalStateException.class, inputStream::readVarInt);
+    }
+
+    @Test
+    void testReadCompactInt() {
+        ByteInputStream legacyStream = new ByteInputStream(new byte[]{0x00, 0x00, 0x00, 0x03}, 4, StreamVersion.LEGACY);
+        ByteInputStream compactStream = new ByteInputStream(new byte[]{0x06}, 1, StreamVersion.COMPACT);
+
+        assertEquals(3, legacyStream.readCompactInt());
+        assertEquals(3, compactStream.readCompactInt());
+        assertTrue(legacyStream.isAtEnd());
+        assertTrue(compactStream.isAtEnd());
+    }
 }
@@ -2,9 +2,12 @@ package network.stream;
 
 import org.junit.jupiter.api.Test;
 import stream.ByteOutputStream;
+import stream.ByteStreamHelper;
+import stream.StreamVersion;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ByteOutputStreamTest {
     @Test
@@ -105,4 +108,47 @@ class ByteOutputStreamTest {
         assertEquals((byte) 0xFF, out.getBytes()[19]);
         assertEquals(20, out.getLength());
     }
+
+    @Test
+    void testWriteVarInt() {
+        ByteOutputStream out = new ByteOutputStream(0);
+        out.writeVarInt(0);
+        out.writeVarInt(-1);
+        out.writeVarInt(64);
+        out.writeVarInt(Integer.MIN_VALUE);
+        assertArrayEquals(new byte[]{0x00, 0x01, (byte) 0x80, 0x01, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}, out.toByteArray());
+    }
+
+    @Test
+    void testWriteCompactInt() {
+        ByteOutputStream legacyOut = new ByteOutputStream(0, StreamVersion.LEGACY);
+        ByteOutputStream compactOut = new ByteOutputStream(0, StreamVersion.COMPACT);
+        legacyOut.writeCompactInt(3);
+        compactOut.writeCompactInt(3);
+        assertArrayEquals(new byte[]{0x00, 0x00, 0x00, 0x03}, legacyOut.toByteArray());
+        assertArrayEquals(new byte[]{0x06}, compactOut.toByteArray());
+    }
+
+    @Test
+    void testThrowWhenWritingCompactDataInLegacyStream() {
+        ByteOutputStream out = new ByteOutputStream(0, StreamVersion.LEGACY);
+        assertThrows(IllegalArgumentException.class, () -> ByteStreamHelper.encodeDataVersion(out, StreamVersion.COMPACT));
+    }
+
+    @Test
+    void testWriteIntAt() {
+        ByteOutputStream out = new ByteOutputStream(0);
+        out.writeInt(0);
+        out.writeByte((byte) 7);
+        out.writeIntAt(0, 0x01020304);
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 7}, out.toByteArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> out.writeIntAt(2, 0));
+    }
+
+    @Test
+    void testWriteAfterOffset() {
+        ByteOutputStream out = new ByteOutputStream(new byte[]{1, 2, 0}, 2, StreamVersion.LEGACY);
+        out.writeShort((short) 0x0304);
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, out.toByteArray());
+    }
 }
@@ -1,6 +1,7 @@
 package server.matchmaking;
 
 import logic.Game;
+import logic.GameDelta;
 import logic.command.ICommand;
 import logic.config.GameConfig;
 import logic.player.Player;
@@ -8,6 +9,7 @@ import logic.tile.Tile;
 import network.message.IMessage;
 import network.message.game.GameCommandMessage;
 import network.message.game.GameDataMessage;
+import network.message.game.GameDeltaMessage;
 import network.message.game.GameMasterNextTurnDataMessage;
 import network.message.game.GameResultMessage;
 import server.listener.MatchGameListener;
@@ -15,21 +17,48 @@ import server.logger.Logger;
 import server.player.OfflinePlayerAI;
 import server.session.ClientSession;
 import stream.ByteOutputStream;
+import stream.StreamVersion;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents a game in the matchmaking system.
  */
 public class Match {
+    /**
+     * Number of turns a client can lag behind and still be resynced with deltas instead of a full snapshot.
+     */
+    private static final int DELTA_HISTORY_SIZE = 8;
+
     private final int id;
     private final ClientSession[] sessions;
     private final Game game;
 
+    /**
+     * Deltas of the last turns, each one from the start of a turn to the start of the next one.
+     */
+    private final ArrayDeque<GameDelta> turnDeltas;
+
+    /**
+     * Copy of the game at the start of the current turn, the base of the next delta.
+     */
+    private Game turnStartGame;
+
+    /**
+     * Stream version of the game data sent to the clients.
+     * The data is encoded once for all the clients, so it uses the lowest version negotiated by them.
+     */
+    private final int dataVersion;
+
     public Match(int id, ClientSession[] sessions) {
         this.id = id;
         this.sessions = sessions;
         this.game = new Game(Objects.requireNonNull(GameConfig.loadFromResources()));
+        this.turnDeltas = new ArrayDeque<>(DELTA_HISTORY_SIZE);
+        this.dataVersion = findDataVersion(sessions);
 
         game.setListener(new MatchGameListener(this));
 
@@ -38,6 +67,24 @@ public class Match {
         }
     }
 
+    /**
+     * Finds the lowest stream version negotiated by the clients of the match.
+     *
+     * @param sessions the client sessions
+     * @return the stream version of the game data
+     */
+    private static int findDataVersion(ClientSession[] sessions) {
+        int version = StreamVersion.CURRENT;
+
+        for (ClientSession session : sessions) {
+            if (session.getConnection() != null) {
+                version = Math.min(version, session.getConnection().getProtocolVersion());
+            }
+        }
+
+        return version;
+    }
+
     /**
      * Destroys the match.
      */
@@ -143,11 +190,89 @@ public class Match {
      * @return the snapshot
      */
     private byte[] createSnapshot(boolean masterData) {
-        ByteOutputStream stream = new ByteOutputStream(1024);
+        ByteOutputStream stream = new ByteOutputStream(1024, dataVersion);
         game.encode(stream, masterData);
         return stream.toByteArray();
     }
 
+    /**
+     * Records the delta of the turn which just ended, from the copy of the game at its start.
+     */
+    private void recordTurnDelta() {
+        Game turnStart = game.clone();
+
+        if (turnStartGame != null) {
+            if (turnDeltas.size() == DELTA_HISTORY_SIZE) {
+                turnDeltas.removeFirst();
+            }
+
+            turnDeltas.addLast(GameDelta.create(turnStartGame, turnStart, false, dataVersion));
+        }
+
+        turnStartGame = turnStart;
+    }
+
+    /**
+     * Creates the deltas bringing a copy of the game at the start of the given turn up to date.
+     * The last delta goes from the start of the current turn to the current game state.
+     *
+     * @param fromTurn the turn of the copy
+     * @param fromHash the state hash of the board of the copy
+     * @return the deltas, or null if the turn is not in the recorded deltas anymore or if the board of the copy differs
+     */
+    protected List<GameDelta> createDeltas(int fromTurn, long fromHash) {
+        if (turnStartGame == null) {
+            return null;
+        }
+
+        ArrayList<GameDelta> deltas = new ArrayList<>();
+
+        if (fromTurn != turnStartGame.getTurnCount()) {
+            for (GameDelta delta : turnDeltas) {
+                if (delta.getFromTurn() == fromTurn || !deltas.isEmpty()) {
+                    deltas.add(delta);
+                }
+            }
+
+            if (deltas.isEmpty()) {
+                return null;
+            }
+        }
+
+        deltas.add(GameDelta.create(turnStartGame, game, true, dataVersion));
+
+        /* The copy of the client went out of sync before the start of the turn, the deltas cannot fix it. */
+        if (deltas.get(0).getFromHash() != fromHash) {
+            return null;
+        }
+
+        return deltas;
+    }
+
+    /**
+     * Called when a client asks to resync its game data.
+     * It sends the deltas since the given turn, or a full snapshot if the turn is too old or the copy of the client differs.
+     *
+     * @param session   the client session
+     * @param turn      the last turn the client has a copy of
+     * @param boardHash the state hash of the board of the copy
+     */
+    public void onResyncRequested(ClientSession session, int turn, long boardHash) {
+        if (game.isOver()) {
+            return;
+        }
+
+        List<GameDelta> deltas = createDeltas(turn, boardHash);
+
+        if (deltas != null) {
+            Logger.info("Match %d: Player %d resynced from turn %d with %d deltas.", id, session.getUserId(), turn, deltas.size());
+            session.getConnection().send(new GameDeltaMessage(deltas));
+        } else {
+            Logger.info("Match %d: Player %d resynced from turn %d with a full snapshot.", id, session.getUserId(), turn);
+            session.getConnection().send(new GameDataMessage(createSnapshot(false), dataVersion));
+        }
+    }
+
     /**
      * Called when a command has been executed successfully.
      * It notifies the connected clients that the command has been executed.
@@ -163,7 +288,7 @@ public class Match {
      * It sends to the connected clients the game snapshot.
      */
     public void onGameStarted() {
-        sendMessageToConnectedClients(new GameDataMessage(createSnapshot(false)));
+        sendMessageToConnectedClients(new GameDataMessage(createSnapshot(false), dataVersion));
     }
 
     /**
@@ -172,7 +297,7 @@ public class Match {
      */
     public void onGameEnded() {
         destroy();
-        sendMessageToConnectedClients(new GameResultMessage(createSnapshot(true)));
+        sendMessageToConnectedClients(new GameResultMessage(createSnapshot(true), dataVersion));
     }
 
     /**
@@ -181,6 +306,7 @@ public class Match {
      * @param tileDrawn the drawn tile
      */
     public void onTurnStarted(Tile tileDrawn) {
+        recordTurnDelta();
         sendMessageToConnectedClients(new GameMasterNextTurnDataMessage(game.getConfig().getTiles().indexOf(tileDrawn.getConfig())));
     }
 }
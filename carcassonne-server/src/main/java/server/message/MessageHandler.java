@@ -4,6 +4,7 @@ import network.message.IMessage;
 import network.message.connection.ClientHelloMessage;
 import network.message.connection.ServerHelloMessage;
 import network.message.game.GameCommandRequestMessage;
+import network.message.game.GameResyncRequestMessage;
 import network.message.matchmaking.JoinMatchmakingMessage;
 import network.message.matchmaking.LeaveMatchmakingMessage;
 import network.message.matchmaking.MatchmakingFailedMessage;
@@ -13,6 +14,7 @@ import server.matchmaking.Match;
 import server.matchmaking.Matchmaking;
 import server.network.ClientConnection;
 import server.session.ClientSession;
+import stream.StreamVersion;
 
 /**
  * Handles messages received from the server.
@@ -37,6 +39,7 @@ public class MessageHandler {
             case JOIN_MATCHMAKING -> onJoinMatchmaking((JoinMatchmakingMessage) message);
             case LEAVE_MATCHMAKING -> onLeaveMatchmaking((LeaveMatchmakingMessage) message);
             case GAME_COMMAND_REQUEST -> onGameCommandRequest((GameCommandRequestMessage) message);
+            case GAME_RESYNC_REQUEST -> onGameResyncRequest((GameResyncRequestMessage) message);
             default -> Logger.warn("Received unknown message type: " + message.getType());
         }
     }
@@ -44,22 +47,31 @@ public class MessageHandler {
     /**
      * Handles a client hello message.
      *
-     * @param ignoredMessage The client hello message.
+     * @param message The client hello message.
      */
-    private void onClientHello(ClientHelloMessage ignoredMessage) {
+    private void onClientHello(ClientHelloMessage message) {
         if (client.getSession() != null) {
             Logger.warn("Client already has a session.");
             return;
         }
 
+        if (message.getProtocolVersion() < StreamVersion.LEGACY) {
+            Logger.warn("Connection %d: Client hello has no protocol version, the client is not compatible. Closing connection.", client.getId());
+            client.close();
+            return;
+        }
+
         int userId;
 
         synchronized (MessageHandler.class) {
             userId = ++fakeUserIdCounter;
         }
 
+        int protocolVersion = Math.min(message.getProtocolVersion(), StreamVersion.CURRENT);
+
         client.setSession(new ClientSession(client, userId));
-        client.send(new ServerHelloMessage(userId));
+        client.send(new ServerHelloMessage(userId, protocolVersion));
+        client.setProtocolVersion(protocolVersion);
     }
 
     /**
@@ -143,4 +155,29 @@ public class MessageHandler {
             match.executeCommand(session.getUserId(), message.getCommand());
         }
     }
+
+    /**
+     * Handles a game resync request message.
+     *
+     * @param message The game resync request message.
+     */
+    private void onGameResyncRequest(GameResyncRequestMessage message) {
+        ClientSession session = client.getSession();
+
+        if (session == null) {
+            Logger.warn("Client has no session.");
+            return;
+        }
+
+        Match match = session.getMatch();
+
+        if (match == null) {
+            Logger.warn("Client has no match.");
+            return;
+        }
+
+        synchronized (match) {
+            match.onResyncRequested(session, message.getTurn(), message.getBoardHash());
+        }
+    }
 }
@@ -11,6 +11,7 @@ import server.network.socket.handler.TcpSendHandler;
 import server.session.ClientSession;
 import stream.ByteInputStream;
 import stream.ByteOutputStream;
+import stream.StreamVersion;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -95,6 +96,10 @@ public class ClientConnection {
      */
     private LocalDateTime lastRead;
 
+    /**
+     * The stream version negotiated with the client.
+     */
+    private volatile int protocolVersion = StreamVersion.LEGACY;
 
     /**
      * Whether the connection is destroyed.
@@ -142,6 +147,24 @@ public class ClientConnection {
         this.session = session;
     }
 
+    /**
+     * Gets the stream version negotiated with the client.
+     *
+     * @return The {@link StreamVersion} of the connection.
+     */
+    public int getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    /**
+     * Sets the stream version used by the next messages.
+     *
+     * @param protocolVersion The {@link StreamVersion} of the connection.
+     */
+    public void setProtocolVersion(int protocolVersion) {
+        this.protocolVersion = protocolVersion;
+    }
+
     /**
      * Gets the remote address of the connection.
      *
@@ -212,10 +235,15 @@ public class ClientConnection {
                 return;
             }
 
-            Logger.debug("Connection %d: Received message %s", id, packet.getMessage());
+            IMessage message = packet.getMessage(protocolVersion);
+            Logger.debug("Connection %d: Received message %s", id, message);
 
             bytesRead += read;
-            messageHandler.handle(packet.getMessage());
+            messageHandler.handle(message);
+
+            if (destroyed) {
+                return;
+            }
         }
 
         receiveStream.remove(bytesRead);
@@ -243,24 +271,15 @@ public class ClientConnection {
     public synchronized void send(IMessage message) {
         Logger.debug("Connection %d: Sending message %s", id, message);
 
-        Packet packet = Packet.create(message);
-        ByteOutputStream stream = new ByteOutputStream(64);
-        packet.encode(stream);
+        boolean writing = sendStream.size() != 0;
 
-        send(stream.getBytes(), 0, stream.getLength());
-    }
+        /* The packet is encoded in place at the end of the send stream. */
+        ByteOutputStream stream = sendStream.openStream(protocolVersion);
+        Packet.encode(message, stream);
+        sendStream.commit(stream);
 
-    /**
-     * Sends the given data to the client.
-     *
-     * @param buffer The data to send.
-     */
-    private synchronized void send(byte[] buffer, int offset, int length) {
-        if (sendStream.size() == 0) {
-            sendStream.put(buffer, offset, length);
+        if (!writing) {
             channel.write(ByteBuffer.wrap(sendStream.getBuffer(), 0, sendStream.size()), this, new TcpSendHandler());
-        } else {
-            sendStream.put(buffer, offset, length);
         }
     }
 
@@ -54,7 +54,7 @@ public class OfflinePlayerAI implements IPlayerListener {
     public void onWaitingDragonMove() {
         Dragon dragon = game.getBoard().getDragon();
 
-        for (Direction direction : Direction.values()) {
+        for (Direction direction : Direction.getValues()) {
             Vector2 position = dragon.getPosition().add(direction.value());
 
             if (dragon.canMoveTo(position)) {
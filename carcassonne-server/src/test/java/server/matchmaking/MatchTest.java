@@ -1,11 +1,17 @@
 package server.matchmaking;
 
+import logic.Game;
+import logic.config.GameConfig;
 import network.message.IMessage;
 import network.message.MessageType;
+import network.message.game.GameDataMessage;
 import org.junit.jupiter.api.Test;
+import server.network.ClientConnection;
 import server.session.ClientSession;
+import stream.ByteInputStream;
+import stream.StreamVersion;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 class MatchTest {
     @Test
@@ -33,6 +39,39 @@ class MatchTest {
         assertTrue(completed[0]);
     }
 
+    @Test
+    void testMixedMatchSendsLegacyGameData() {
+        ClientConnection legacyConnection = new ClientConnection(null, 1);
+        ClientConnection compactConnection = new ClientConnection(null, 2);
+        legacyConnection.setProtocolVersion(StreamVersion.LEGACY);
+        compactConnection.setProtocolVersion(StreamVersion.COMPACT);
+
+        assertEquals(StreamVersion.LEGACY, startAndGetDataVersion(legacyConnection, compactConnection));
+        assertEquals(StreamVersion.COMPACT, startAndGetDataVersion(compactConnection, compactConnection));
+    }
+
+    private static int startAndGetDataVersion(ClientConnection connection1, ClientConnection connection2) {
+        ClientSession[] players = new ClientSession[]{
+                new ClientSession(connection1, 1),
+                new ClientSession(connection2, 2),
+        };
+
+        final int[] dataVersion = new int[]{StreamVersion.NONE};
+
+        Match match = new Match(1, players) {
+            @Override
+            protected void sendMessageToConnectedClients(IMessage message) {
+                if (message.getType() == MessageType.GAME_DATA) {
+                    dataVersion[0] = ((GameDataMessage) message).getDataVersion();
+                }
+            }
+        };
+
+        match.start();
+
+        return dataVersion[0];
+    }
+
     @Test
     void testSendGameMasterNextTurnDataWhenNewTurnStarted() {
         ClientSession[] players = new ClientSession[]{
@@ -104,4 +143,36 @@ class MatchTest {
 
         assertTrue(completed[0]);
     }
+
+    @Test
+    void testCreateDeltasFromRecordedTurns() {
+        ClientSession[] players = new ClientSession[]{
+                new ClientSession(null, 1),
+                new ClientSession(null, 2),
+        };
+
+        final GameDataMessage[] gameData = new GameDataMessage[1];
+
+        Match match = new Match(1, players) {
+            @Override
+            protected void sendMessageToConnectedClients(IMessage message) {
+                if (message.getType() == MessageType.GAME_DATA) {
+                    gameData[0] = (GameDataMessage) message;
+                }
+            }
+        };
+
+        assertNull(match.createDeltas(0, 0));
+
+        match.start();
+
+        Game copy = new Game(GameConfig.loadFromResources());
+        copy.decode(new ByteInputStream(gameData[0].getData(), gameData[0].getData().length, gameData[0].getDataVersion()), false);
+        long boardHash = copy.getBoard().getStateHash();
+
+        assertEquals(1, match.createDeltas(1, boardHash).size());
+        assertEquals(1, match.createDeltas(1, boardHash).get(0).getFromTurn());
+        assertNull(match.createDeltas(0, boardHash));
+        assertNull(match.createDeltas(1, boardHash + 1));
+    }
 }
@@ -2,9 +2,11 @@ package server.network;
 
 import network.Packet;
 import network.message.IMessage;
+import network.message.MessageType;
 import network.message.connection.ClientHelloMessage;
 import network.message.connection.ServerHelloMessage;
 import network.message.game.GameResultMessage;
+import network.util.Crc32;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import reflection.ReflectionUtils;
@@ -114,4 +116,15 @@ class ClientConnectionTest {
         assertEquals(1, receivedMessageCount);
         assertFalse(isClosedCalled);
     }
+
+    @Test
+    void testCloseOnClientHelloWithoutVersion() throws Exception {
+        ReflectionUtils.setField(clientConnection, "messageHandler", new MessageHandler(clientConnection));
+        receiveBuffer.put(getPacketBytes(new Packet(MessageType.CLIENT_HELLO, Crc32.getCrc(new byte[0]), 0, new byte[0])));
+
+        clientConnection.onReceive(receiveBuffer.position());
+
+        assertTrue(isClosedCalled);
+        assertNull(clientConnection.getSession());
+    }
 }